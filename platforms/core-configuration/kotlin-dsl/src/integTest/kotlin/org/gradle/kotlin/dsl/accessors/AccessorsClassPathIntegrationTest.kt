@@ -16,13 +16,17 @@
 
 package org.gradle.kotlin.dsl.accessors
 
+import org.gradle.integtests.fixtures.BuildOperationsFixture
 import org.gradle.kotlin.dsl.fixtures.AbstractKotlinIntegrationTest
 
 import org.hamcrest.CoreMatchers.containsString
+import org.hamcrest.CoreMatchers.equalTo
 import org.hamcrest.MatcherAssert.assertThat
 
 import org.junit.Test
 
+import java.util.regex.Pattern
+
 
 class AccessorsClassPathIntegrationTest : AbstractKotlinIntegrationTest() {
 
@@ -36,4 +40,64 @@ class AccessorsClassPathIntegrationTest : AbstractKotlinIntegrationTest() {
 
         assertThat(build("help").output, containsString(PROJECT_SCHEMA_RESOURCE_DISCONTINUED_WARNING))
     }
+
+    @Test
+    fun `generates accessors once per distinct schema of projects applying the same plugins`() {
+
+        withOwnGradleUserHomeDir("accessors generated by other tests must not be reused") {
+
+            val buildOperations = BuildOperationsFixture(executer, testDirectoryProvider)
+
+            withSettings(
+                """
+                $defaultSettingsScript
+                include("a", "b", "c", "d")
+                """
+            )
+            listOf("a", "b", "c").forEach { project ->
+                withBuildScriptIn(
+                    project,
+                    """
+                    plugins { java }
+
+                    java { withSourcesJar() }
+
+                    println("$project: " + sourceSets.main.get().name)
+                    """
+                )
+            }
+            withBuildScriptIn(
+                "d",
+                """
+                plugins { `java-library` }
+
+                println("d: " + configurations.api.get().name)
+                """
+            )
+
+            val output = build("help").output
+
+            listOf("a", "b", "c").forEach { project ->
+                assertThat(output, containsString("$project: main"))
+            }
+            assertThat(output, containsString("d: api"))
+
+            val generations = buildOperations.all(Pattern.compile("Generate Kotlin DSL accessors for project schema .*"))
+            generations.forEach { generation ->
+                assertThat(generation.displayName, equalTo("Generate Kotlin DSL accessors for project schema ${generation.details!!["schemaHash"]}"))
+            }
+            val schemaHashes = generations.map { it.details!!["schemaHash"] as String }
+            assertThat("one generation per schema", schemaHashes.toSet().size, equalTo(schemaHashes.size))
+
+            // Accessors are generated for the first project that asks for a schema, and shared with the projects asking for it later
+            val projectGenerations = generations.mapNotNull { generation ->
+                buildOperations.parentsOf(generation)
+                    .firstNotNullOfOrNull { Regex("to project '(:\\w+)'").find(it.displayName) }
+                    ?.let { it.groupValues[1] to generation.details!!["schemaHash"] }
+            }
+            assertThat(projectGenerations.size, equalTo(2))
+            assertThat(projectGenerations.count { it.first in listOf(":a", ":b", ":c") }, equalTo(1))
+            assertThat(projectGenerations.count { it.first == ":d" }, equalTo(1))
+        }
+    }
 }
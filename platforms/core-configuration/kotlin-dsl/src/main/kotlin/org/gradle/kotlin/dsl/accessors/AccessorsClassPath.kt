@@ -42,6 +42,10 @@ import org.gradle.internal.fingerprint.LineEndingSensitivity
 import org.gradle.internal.hash.HashCode
 import org.gradle.internal.hash.Hasher
 import org.gradle.internal.hash.Hashing
+import org.gradle.internal.operations.BuildOperationContext
+import org.gradle.internal.operations.BuildOperationDescriptor
+import org.gradle.internal.operations.BuildOperationRunner
+import org.gradle.internal.operations.RunnableBuildOperation
 import org.gradle.internal.properties.InputBehavior.NON_INCREMENTAL
 import org.gradle.internal.service.scopes.Scope
 import org.gradle.internal.service.scopes.ServiceScope
@@ -69,6 +73,7 @@ import org.jetbrains.org.objectweb.asm.signature.SignatureReader
 import org.jetbrains.org.objectweb.asm.signature.SignatureVisitor
 import java.io.Closeable
 import java.io.File
+import java.util.concurrent.ConcurrentHashMap
 import javax.inject.Inject
 
 
@@ -79,9 +84,20 @@ class ProjectAccessorsClassPathGenerator @Inject internal constructor(
     private val executionEngine: ExecutionEngine,
     private val inputFingerprinter: InputFingerprinter,
     private val workspaceProvider: KotlinDslWorkspaceProvider,
-    private val asyncIO: AsyncIOScopeFactory
+    private val asyncIO: AsyncIOScopeFactory,
+    private val buildOperationRunner: BuildOperationRunner
 ) {
 
+    /**
+     * Projects applying the same plugins share the same schema, hence the same accessors.
+     *
+     * Accessors are already content addressed in the workspace, this avoids going through
+     * the execution engine, and fingerprinting the classpath, again for every such project.
+     * Values are memoized lazily so that generation runs outside of the map's locks.
+     */
+    private
+    val accessorsClassPathBySchema = ConcurrentHashMap<AccessorsClassPathKey, Lazy<AccessorsClassPath>>()
+
     fun projectAccessorsClassPath(scriptTarget: ExtensionAware, classPath: ClassPath): AccessorsClassPath =
         scriptTarget.getOrCreateProperty("gradleKotlinDsl.accessorsClassPath") {
             buildAccessorsClassPathFor(scriptTarget, classPath)
@@ -95,22 +111,31 @@ class ProjectAccessorsClassPathGenerator @Inject internal constructor(
             ?.let { classLoaderScope ->
                 configuredProjectSchemaOf(scriptTarget, classLoaderScope)
             }?.let { scriptTargetSchema ->
-                val work = GenerateProjectAccessors(
-                    scriptTarget,
-                    scriptTargetSchema,
-                    classPath,
-                    fileCollectionFactory,
-                    inputFingerprinter,
-                    workspaceProvider,
-                    asyncIO
-                )
-                executionEngine.createRequest(work)
-                    .execute()
-                    .getOutputAs(AccessorsClassPath::class.java)
-                    .get()
+                accessorsClassPathBySchema.computeIfAbsent(AccessorsClassPathKey(hashCodeFor(scriptTargetSchema), classPath)) {
+                    lazy { generateAccessorsClassPathFor(scriptTarget, scriptTargetSchema, classPath) }
+                }.value
             }
 
 
+    private
+    fun generateAccessorsClassPathFor(scriptTarget: Any, scriptTargetSchema: TypedProjectSchema, classPath: ClassPath): AccessorsClassPath {
+        val work = GenerateProjectAccessors(
+            scriptTarget,
+            scriptTargetSchema,
+            classPath,
+            fileCollectionFactory,
+            inputFingerprinter,
+            workspaceProvider,
+            asyncIO,
+            buildOperationRunner
+        )
+        return executionEngine.createRequest(work)
+            .execute()
+            .getOutputAs(AccessorsClassPath::class.java)
+            .get()
+    }
+
+
     private
     fun configuredProjectSchemaOf(scriptTarget: Any, classLoaderScope: ClassLoaderScope): TypedProjectSchema? {
         require(classLoaderScope.isLocked) {
@@ -118,6 +143,9 @@ class ProjectAccessorsClassPathGenerator @Inject internal constructor(
         }
         return projectSchemaProvider.schemaFor(scriptTarget)?.takeIf { it.isNotEmpty() }
     }
+
+    private
+    data class AccessorsClassPathKey(val schemaHash: HashCode, val classPath: ClassPath)
 }
 
 
@@ -129,7 +157,8 @@ class GenerateProjectAccessors(
     private val fileCollectionFactory: FileCollectionFactory,
     private val inputFingerprinter: InputFingerprinter,
     private val workspaceProvider: KotlinDslWorkspaceProvider,
-    private val asyncIO: AsyncIOScopeFactory
+    private val asyncIO: AsyncIOScopeFactory,
+    private val buildOperationRunner: BuildOperationRunner
 ) : ImmutableUnitOfWork {
 
     companion object {
@@ -139,16 +168,34 @@ class GenerateProjectAccessors(
         const val CLASSES_OUTPUT_PROPERTY = "classes"
     }
 
+    private
+    val scriptTargetSchemaHash by lazy {
+        hashCodeFor(scriptTargetSchema)
+    }
+
     override fun execute(executionRequest: UnitOfWork.ExecutionRequest): UnitOfWork.WorkOutput {
         val workspace = executionRequest.workspace
-        asyncIO.runBlocking {
-            buildAccessorsFor(
-                scriptTargetSchema,
-                classPath,
-                srcDir = getSourcesOutputDir(workspace),
-                binDir = getClassesOutputDir(workspace)
-            )
-        }
+        buildOperationRunner.run(object : RunnableBuildOperation {
+
+            override fun run(context: BuildOperationContext) {
+                asyncIO.runBlocking {
+                    buildAccessorsFor(
+                        scriptTargetSchema,
+                        classPath,
+                        srcDir = getSourcesOutputDir(workspace),
+                        binDir = getClassesOutputDir(workspace)
+                    )
+                }
+                context.setResult(GenerateProjectAccessorsBuildOperationType.RESULT)
+            }
+
+            override fun description(): BuildOperationDescriptor.Builder {
+                val name = "Generate Kotlin DSL accessors for project schema $scriptTargetSchemaHash"
+                return BuildOperationDescriptor.displayName(name).name(name).details(object : GenerateProjectAccessorsBuildOperationType.Details {
+                    override fun getSchemaHash(): String = scriptTargetSchemaHash.toString()
+                })
+            }
+        })
         return object : UnitOfWork.WorkOutput {
             override fun getDidWork() = UnitOfWork.WorkResult.DID_WORK
 
@@ -176,7 +223,7 @@ class GenerateProjectAccessors(
     override fun getDisplayName(): String = "Kotlin DSL accessors for $scriptTarget"
 
     override fun visitIdentityInputs(visitor: InputVisitor) {
-        visitor.visitInputProperty(TARGET_SCHEMA_INPUT_PROPERTY) { hashCodeFor(scriptTargetSchema) }
+        visitor.visitInputProperty(TARGET_SCHEMA_INPUT_PROPERTY) { scriptTargetSchemaHash }
         visitor.visitInputFileProperty(
             CLASSPATH_INPUT_PROPERTY,
             NON_INCREMENTAL,
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.kotlin.dsl.accessors
+
+import org.gradle.internal.operations.BuildOperationType
+
+
+/**
+ * Generation of the type-safe accessors for a project schema.
+ *
+ * Only emitted when the accessors for the schema are not already available in the Kotlin DSL workspace.
+ */
+internal
+class GenerateProjectAccessorsBuildOperationType : BuildOperationType<GenerateProjectAccessorsBuildOperationType.Details, GenerateProjectAccessorsBuildOperationType.Result> {
+
+    interface Details {
+
+        /**
+         * The hash of the project schema the accessors are generated for.
+         */
+        fun getSchemaHash(): String
+    }
+
+    interface Result
+
+    companion object {
+        val RESULT: Result = object : Result {}
+    }
+}
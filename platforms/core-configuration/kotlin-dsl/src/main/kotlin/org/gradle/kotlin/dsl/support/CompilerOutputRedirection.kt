@@ -0,0 +1,95 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.kotlin.dsl.support
+
+import java.io.OutputStream
+import java.io.PrintStream
+
+
+/**
+ * Redirects the output the embedded Kotlin compiler writes to [System.out] and [System.err].
+ *
+ * The standard streams are replaced once, when the first compilation starts, by streams that
+ * route each write to the destination registered by the writing thread, and restored once the
+ * last compilation completes. This allows scripts to be compiled concurrently without
+ * interleaving their output or restoring each other's streams.
+ *
+ * Threads that are not compiling keep writing to the original streams.
+ */
+internal
+object CompilerOutputRedirection {
+
+    private
+    val lock = Any()
+
+    private
+    val destination = ThreadLocal<OutputStream>()
+
+    private
+    var activeCompilations = 0
+
+    private
+    var originalOut: PrintStream? = null
+
+    private
+    var originalErr: PrintStream? = null
+
+    fun enter(to: OutputStream) {
+        destination.set(to)
+        synchronized(lock) {
+            if (activeCompilations++ == 0) {
+                val out = System.out
+                val err = System.err
+                originalOut = out
+                originalErr = err
+                System.setOut(PrintStream(RoutingOutputStream(out), true))
+                System.setErr(PrintStream(RoutingOutputStream(err), true))
+            }
+        }
+    }
+
+    fun exit() {
+        val to = destination.get()
+        destination.remove()
+        try {
+            to?.flush()
+        } finally {
+            synchronized(lock) {
+                if (--activeCompilations == 0) {
+                    System.setOut(originalOut)
+                    System.setErr(originalErr)
+                    originalOut = null
+                    originalErr = null
+                }
+            }
+        }
+    }
+
+    private
+    class RoutingOutputStream(private val fallback: OutputStream) : OutputStream() {
+
+        private
+        val target: OutputStream
+            get() = destination.get() ?: fallback
+
+        override fun write(b: Int) = target.write(b)
+
+        override fun write(b: ByteArray, off: Int, len: Int) = target.write(b, off, len)
+
+        override fun flush() = target.flush()
+    }
+}
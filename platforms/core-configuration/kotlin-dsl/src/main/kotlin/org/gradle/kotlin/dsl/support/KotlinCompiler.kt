@@ -75,7 +75,7 @@ import org.slf4j.Logger
 import java.io.ByteArrayOutputStream
 import java.io.File
 import java.io.OutputStream
-import java.io.PrintStream
+import java.util.concurrent.Semaphore
 import kotlin.reflect.KClass
 import kotlin.script.experimental.api.ScriptCompilationConfiguration
 import kotlin.script.experimental.api.baseClass
@@ -182,13 +182,15 @@ fun compileKotlinScriptModuleTo(
                 classPath.forEach { addJvmClasspathRoot(it) }
             }
 
-            val environment = kotlinCoreEnvironmentFor(configuration).apply {
-                HasImplicitReceiverCompilerPlugin.apply(project)
-                KotlinAssignmentCompilerPlugin.apply(project)
-            }
+            withCompilerPermit {
+                val environment = kotlinCoreEnvironmentFor(configuration).apply {
+                    HasImplicitReceiverCompilerPlugin.apply(project)
+                    KotlinAssignmentCompilerPlugin.apply(project)
+                }
 
-            compileBunchOfSources(environment)
-                || throw ScriptCompilationException(messageCollector.errors)
+                compileBunchOfSources(environment)
+                    || throw ScriptCompilationException(messageCollector.errors)
+            }
         }
     }
 }
@@ -239,8 +241,10 @@ fun compileToDirectory(
                 classPath.forEach { addJvmClasspathRoot(it) }
                 addJvmClasspathRoot(kotlinStdlibJar)
             }
-            val environment = kotlinCoreEnvironmentFor(configuration)
-            return compileBunchOfSources(environment)
+            return withCompilerPermit {
+                val environment = kotlinCoreEnvironmentFor(configuration)
+                compileBunchOfSources(environment)
+            }
         }
     }
 }
@@ -251,6 +255,41 @@ val kotlinStdlibJar: File
     get() = PathUtil.getResourcePathForClass(Unit::class.java)
 
 
+/**
+ * Optional upper bound on the number of Kotlin compiler environments alive at the same time.
+ *
+ * Scripts of different projects are compiled concurrently when projects are configured in parallel,
+ * all of them sharing the same, kept alive, application environment. That is already bounded by the
+ * number of workers of the build, so there is no further bound unless the system property is set,
+ * for builds where the project environments held in memory by each compilation are a concern.
+ */
+private
+val maxParallelScriptCompilations: Int?
+    get() = System.getProperty(MAX_PARALLEL_SCRIPT_COMPILATIONS_PROPERTY)?.toIntOrNull()?.coerceAtLeast(1)
+
+
+internal
+const val MAX_PARALLEL_SCRIPT_COMPILATIONS_PROPERTY = "org.gradle.kotlin.dsl.scriptCompilation.maxParallelism"
+
+
+private
+val compilerPermits: Semaphore? by lazy {
+    maxParallelScriptCompilations?.let { Semaphore(it, true) }
+}
+
+
+private
+inline fun <T> withCompilerPermit(action: () -> T): T {
+    val permits = compilerPermits ?: return action()
+    permits.acquire()
+    try {
+        return action()
+    } finally {
+        permits.release()
+    }
+}
+
+
 private
 inline fun <T> withRootDisposable(action: Disposable.() -> T): T {
     val rootDisposable = newDisposable()
@@ -307,26 +346,14 @@ inline fun <T> ignoringOutputOf(action: () -> T): T =
 
 
 private
-inline fun <T> redirectingOutputTo(noinline outputStream: () -> OutputStream, action: () -> T): T =
-    redirecting(System.err, System::setErr, outputStream()) {
-        redirecting(System.out, System::setOut, outputStream()) {
-            action()
-        }
+inline fun <T> redirectingOutputTo(noinline outputStream: () -> OutputStream, action: () -> T): T {
+    val to = outputStream()
+    CompilerOutputRedirection.enter(to)
+    try {
+        return action()
+    } finally {
+        CompilerOutputRedirection.exit()
     }
-
-
-private
-inline fun <T> redirecting(
-    stream: PrintStream,
-    set: (PrintStream) -> Unit,
-    to: OutputStream,
-    action: () -> T
-): T = try {
-    set(PrintStream(to, true))
-    action()
-} finally {
-    set(stream)
-    to.flush()
 }
 
 
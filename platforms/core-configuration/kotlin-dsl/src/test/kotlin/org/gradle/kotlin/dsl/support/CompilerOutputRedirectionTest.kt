@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.kotlin.dsl.support
+
+import org.hamcrest.CoreMatchers.sameInstance
+import org.hamcrest.MatcherAssert.assertThat
+import org.hamcrest.core.IsEqual.equalTo
+import org.junit.Test
+import java.io.ByteArrayOutputStream
+import java.util.concurrent.CountDownLatch
+import kotlin.concurrent.thread
+
+
+class CompilerOutputRedirectionTest {
+
+    @Test
+    fun `routes output of concurrent compilations to their own destination and restores standard streams`() {
+
+        val originalOut = System.out
+        val originalErr = System.err
+
+        val first = ByteArrayOutputStream()
+        val second = ByteArrayOutputStream()
+        val bothEntered = CountDownLatch(2)
+
+        fun compilation(name: String, to: ByteArrayOutputStream) = thread {
+            CompilerOutputRedirection.enter(to)
+            try {
+                bothEntered.countDown()
+                bothEntered.await()
+                System.out.print("out:$name;")
+                System.err.print("err:$name;")
+            } finally {
+                CompilerOutputRedirection.exit()
+            }
+        }
+
+        listOf(compilation("first", first), compilation("second", second)).forEach { it.join() }
+
+        assertThat(first.toString(), equalTo("out:first;err:first;"))
+        assertThat(second.toString(), equalTo("out:second;err:second;"))
+        assertThat(System.out, sameInstance(originalOut))
+        assertThat(System.err, sameInstance(originalErr))
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.gradle.api.internal.provider;
+
+import org.gradle.api.provider.Provider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class MappedProviderChainPerfTest {
+    private final PropertyHost host = producer -> null;
+
+    @Param({"1", "10", "50"})
+    int depth;
+
+    private Provider<String> chain;
+
+    @Setup
+    public void setUp() {
+        DefaultProperty<String> property = new DefaultProperty<>(host, String.class);
+        property.set("value");
+        Provider<String> provider = property;
+        for (int i = 0; i < depth; i++) {
+            provider = provider.map(v -> v);
+        }
+        chain = provider;
+    }
+
+    @Benchmark
+    public void getMappedValue(Blackhole bh) {
+        bh.consume(chain.get());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.reflect.annotations.impl;
+
+import com.google.common.collect.ImmutableMap;
+import org.gradle.internal.reflect.annotations.PropertyAnnotationMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads every property of 10k task-like beans, as happens when the inputs and outputs of all tasks of a build are checked to be up-to-date.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class PropertyValuePerfTest {
+    private static final int BEAN_COUNT = 10_000;
+
+    private final List<Bean> beans = new ArrayList<>(BEAN_COUNT);
+    private final List<PropertyAnnotationMetadata> properties = new ArrayList<>();
+    private final List<Method> getters = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        for (int i = 0; i < BEAN_COUNT; i++) {
+            beans.add(new Bean(i));
+        }
+        for (String name : new String[]{"name", "count", "enabled", "nested"}) {
+            Method getter = Bean.class.getMethod("get" + Character.toUpperCase(name.charAt(0)) + name.substring(1));
+            getters.add(getter);
+            properties.add(new DefaultPropertyAnnotationMetadata(name, getter, ImmutableMap.of()));
+        }
+    }
+
+    @Benchmark
+    public void readPropertiesViaMetadata(Blackhole bh) {
+        for (Bean bean : beans) {
+            for (PropertyAnnotationMetadata property : properties) {
+                bh.consume(property.getPropertyValue(bean));
+            }
+        }
+    }
+
+    @Benchmark
+    public void readPropertiesViaReflection(Blackhole bh) throws Exception {
+        for (Bean bean : beans) {
+            for (Method getter : getters) {
+                bh.consume(getter.invoke(bean));
+            }
+        }
+    }
+
+    public static class Bean {
+        private final int index;
+        private final Object nested = new Object();
+
+        public Bean(int index) {
+            this.index = index;
+        }
+
+        public String getName() {
+            return "bean";
+        }
+
+        public int getCount() {
+            return index;
+        }
+
+        public boolean getEnabled() {
+            return (index & 1) == 0;
+        }
+
+        public Object getNested() {
+            return nested;
+        }
+    }
+}
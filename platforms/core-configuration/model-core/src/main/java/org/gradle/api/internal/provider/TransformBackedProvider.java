@@ -18,6 +18,7 @@
 
 import org.gradle.api.InvalidUserCodeException;
 import org.gradle.api.Transformer;
+import org.gradle.internal.Cast;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -78,11 +79,28 @@ public ExecutionTimeValue<? extends OUT> calculateExecutionTimeValue() {
     protected Value<? extends OUT> calculateOwnValue(ValueConsumer consumer) {
         try (EvaluationContext.ScopeContext context = openScope()) {
             beforeRead(context);
-            Value<? extends IN> value = provider.calculateValue(consumer);
+            Value<? extends IN> value = calculateUpstreamValue(consumer);
             return mapValue(context, value);
         }
     }
 
+    private Value<? extends IN> calculateUpstreamValue(ValueConsumer consumer) {
+        if (provider.getClass() == TransformBackedProvider.class) {
+            // The upstream provider would check the same content producers that this provider has just checked, as it has the same producer.
+            // Skip the check, so that the producers of a chain of mappings are visited once per query rather than once for each mapping in the chain
+            TransformBackedProvider<? extends IN, ?> upstream = Cast.uncheckedNonnullCast(provider);
+            return upstream.calculateValueWithoutReadCheck(consumer);
+        }
+        return provider.calculateValue(consumer);
+    }
+
+    private Value<? extends OUT> calculateValueWithoutReadCheck(ValueConsumer consumer) {
+        try (EvaluationContext.ScopeContext context = openScope()) {
+            Value<? extends IN> value = calculateUpstreamValue(consumer);
+            return mapValue(context, value).pushWhenMissing(getDeclaredDisplayName());
+        }
+    }
+
     @Nonnull
     protected Value<OUT> mapValue(EvaluationContext.ScopeContext context, Value<? extends IN> value) {
         if (value.isMissing()) {
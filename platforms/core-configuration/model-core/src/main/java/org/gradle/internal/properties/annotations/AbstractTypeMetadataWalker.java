@@ -82,7 +82,8 @@ private void walkNestedBean(T node, TypeMetadata typeMetadata, String qualifiedN
     private void walkChildren(T node, TypeMetadata typeMetadata, @Nullable String parentQualifiedName, V visitor, Map<T, String> nestedNodesOnPath) {
         typeMetadata.getPropertiesMetadata().forEach(propertyMetadata -> {
             if (propertyMetadata.getPropertyType() == nestedAnnotation) {
-                walkNestedChild(node, getQualifiedName(parentQualifiedName, propertyMetadata.getPropertyName()), propertyMetadata, visitor, child -> walkNested(child, getQualifiedName(parentQualifiedName, propertyMetadata.getPropertyName()), propertyMetadata, visitor, nestedNodesOnPath, false));
+                String qualifiedName = getQualifiedName(parentQualifiedName, propertyMetadata.getPropertyName());
+                walkNestedChild(node, qualifiedName, propertyMetadata, visitor, child -> walkNested(child, qualifiedName, propertyMetadata, visitor, nestedNodesOnPath, false));
             } else {
                 walkLeaf(node, parentQualifiedName, visitor, propertyMetadata);
             }
@@ -27,13 +27,16 @@
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Optional;
 
 public class DefaultPropertyAnnotationMetadata implements PropertyAnnotationMetadata {
     private final String propertyName;
     private final Method getter;
+    private final MethodHandle getterHandle;
     private final TypeToken<?> declaredType;
     private final ImmutableMap<AnnotationCategory, Annotation> annotationsByCategory;
     private final ImmutableMap<Class<? extends Annotation>, Annotation> annotationsByType;
@@ -42,11 +45,24 @@ public DefaultPropertyAnnotationMetadata(String propertyName, Method getter, Imm
         this.propertyName = propertyName;
         this.getter = getter;
         getter.setAccessible(true);
+        this.getterHandle = unreflectGetter(getter);
         this.declaredType = TypeToken.of(getter.getGenericReturnType());
         this.annotationsByCategory = annotationsByCategory;
         this.annotationsByType = collectAnnotationsByType(annotationsByCategory);
     }
 
+    /**
+     * Properties are read every time the inputs and outputs of a work item are visited,
+     * so the getter is invoked via a method handle adapted to {@code (Object)Object} rather than via reflection.
+     */
+    private static MethodHandle unreflectGetter(Method getter) {
+        try {
+            return MethodHandles.lookup().unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw UncheckedException.throwAsUncheckedException(e);
+        }
+    }
+
     private static ImmutableMap<Class<? extends Annotation>, Annotation> collectAnnotationsByType(ImmutableMap<AnnotationCategory, Annotation> annotations) {
         ImmutableMap.Builder<Class<? extends Annotation>, Annotation> builder = ImmutableMap.builderWithExpectedSize(annotations.size());
         for (Annotation value : annotations.values()) {
@@ -93,12 +109,13 @@ public TypeToken<?> getDeclaredType() {
     @Nullable
     @Override
     public Object getPropertyValue(Object object) {
+        if (!getter.getDeclaringClass().isInstance(object)) {
+            throw new GradleException(String.format("Could not call %s.%s() on %s", getter.getDeclaringClass().getSimpleName(), getter.getName(), object));
+        }
         try {
-            return getter.invoke(object);
-        } catch (InvocationTargetException e) {
-            throw UncheckedException.throwAsUncheckedException(e.getCause());
-        } catch (Exception e) {
-            throw new GradleException(String.format("Could not call %s.%s() on %s", getter.getDeclaringClass().getSimpleName(), getter.getName(), object), e);
+            return getterHandle.invokeExact(object);
+        } catch (Throwable e) {
+            throw UncheckedException.throwAsUncheckedException(e);
         }
     }
 
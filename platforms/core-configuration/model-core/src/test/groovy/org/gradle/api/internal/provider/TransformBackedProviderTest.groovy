@@ -150,6 +150,28 @@ class TransformBackedProviderTest extends Specification {
         0 * progressEventEmitter._
     }
 
+    def "checks producer task of chained mappings once when querying"() {
+        given:
+        def task = Mock(Task)
+        def state = Mock(TaskState)
+        def owner = Stub(ModelObject)
+        _ * owner.taskThatOwnsThisObject >> task
+        def property = TestUtil.objectFactory().property(String)
+        property.attachOwner(owner, Describables.of("<prop>"))
+        property.attachProducer(owner)
+        property.set("12")
+        def provider = property.map { Integer.parseInt(it) }.map { it + 1 }.map { it + 2 }
+
+        when:
+        def value = provider.get()
+
+        then:
+        value == 15
+        1 * task.state >> state
+        1 * state.executed >> true
+        0 * progressEventEmitter._
+    }
+
     Property<String> propertyWithProducer() {
         def task = Mock(Task)
         def state = Mock(TaskState)
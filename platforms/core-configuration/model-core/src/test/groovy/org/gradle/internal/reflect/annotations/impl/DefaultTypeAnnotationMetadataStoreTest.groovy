@@ -123,6 +123,45 @@ class DefaultTypeAnnotationMetadataStoreTest extends Specification implements Va
         String getInjectedProperty() { "injected" }
     }
 
+    def "reads values of annotated properties"() {
+        def bean = new TypeWithAnnotatedProperty()
+        def metadata = store.getTypeAnnotationMetadata(TypeWithAnnotatedProperty)
+
+        expect:
+        metadata.propertiesAnnotationMetadata.collectEntries { [it.propertyName, it.getPropertyValue(bean)] } == [
+            injectedProperty: "injected",
+            packageProperty: false,
+            privateProperty: "private",
+            protectedProperty: true,
+            publicProperty: "public",
+        ]
+    }
+
+    def "rethrows failure of getter when reading property value"() {
+        def failure = new IOException("broken")
+        def bean = new TypeWithFailingProperty(failure)
+        def property = store.getTypeAnnotationMetadata(TypeWithFailingProperty).propertiesAnnotationMetadata[0]
+
+        when:
+        property.getPropertyValue(bean)
+
+        then:
+        def e = thrown(IOException)
+        e.is(failure)
+    }
+
+    @SuppressWarnings("unused")
+    class TypeWithFailingProperty {
+        private final Exception failure
+
+        TypeWithFailingProperty(Exception failure) {
+            this.failure = failure
+        }
+
+        @Large
+        String getFailingProperty() throws Exception { throw failure }
+    }
+
     def "ignores all properties on type #type.simpleName"() {
         expect:
         assertProperties type, [:]
@@ -27,7 +27,6 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
@@ -1083,6 +1082,7 @@ protected Object createServiceInstance() {
 
     private static class ConstructorService extends FactoryService {
         private final Constructor<?> constructor;
+        private final Type[] parameterTypes;
 
         private ConstructorService(DefaultServiceRegistry owner, ServiceAccessScope accessScope, ServiceAccessToken token, Class<?> serviceType) {
             this(owner, accessScope, token, serviceType, serviceType);
@@ -1101,16 +1101,14 @@ private ConstructorService(DefaultServiceRegistry owner, ServiceAccessScope acce
 
             validateImplementationForServiceTypes(serviceTypes, implementationType);
 
-            Constructor<?> match = InjectUtil.selectConstructor(implementationType);
-            if (InjectUtil.isPackagePrivate(match.getModifiers()) || Modifier.isPrivate(match.getModifiers())) {
-                match.setAccessible(true);
-            }
-            this.constructor = match;
+            InjectableConstructor injectableConstructor = InjectableConstructor.of(implementationType);
+            this.constructor = injectableConstructor.constructor;
+            this.parameterTypes = injectableConstructor.parameterTypes;
         }
 
         @Override
         protected Type[] getParameterTypes() {
-            return constructor.getGenericParameterTypes();
+            return parameterTypes;
         }
 
         private Member getFactory() {
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.service;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The constructor used to create services of some implementation type, along with its generic parameter types.
+ * <p>
+ * The same implementation types are registered with every registry of a given scope, so these are looked up once per type.
+ */
+class InjectableConstructor {
+    private static final ConcurrentMap<Class<?>, InjectableConstructor> CONSTRUCTORS_CACHE = new ConcurrentHashMap<Class<?>, InjectableConstructor>();
+
+    final Constructor<?> constructor;
+    final Type[] parameterTypes;
+
+    private InjectableConstructor(Constructor<?> constructor, Type[] parameterTypes) {
+        this.constructor = constructor;
+        this.parameterTypes = parameterTypes;
+    }
+
+    public static InjectableConstructor of(Class<?> implementationType) {
+        InjectableConstructor injectableConstructor = CONSTRUCTORS_CACHE.get(implementationType);
+        if (injectableConstructor == null) {
+            Constructor<?> match = InjectUtil.selectConstructor(implementationType);
+            if (InjectUtil.isPackagePrivate(match.getModifiers()) || Modifier.isPrivate(match.getModifiers())) {
+                match.setAccessible(true);
+            }
+            injectableConstructor = new InjectableConstructor(match, match.getGenericParameterTypes());
+            CONSTRUCTORS_CACHE.putIfAbsent(implementationType, injectableConstructor);
+        }
+        return injectableConstructor;
+    }
+}
@@ -44,6 +44,7 @@ dependencies {
     testImplementation(projects.fileCollections)
     testImplementation(projects.platformJvm)
     testImplementation(testFixtures(projects.core))
+    testImplementation(testFixtures(projects.logging))
 }
 
 strictCompile {
@@ -24,6 +24,10 @@
 import org.gradle.internal.build.BuildStateRegistry;
 import org.gradle.internal.buildtree.BuildTreeModelController;
 import org.gradle.internal.buildtree.BuildTreeModelSideEffectExecutor;
+import org.gradle.internal.operations.BuildOperationContext;
+import org.gradle.internal.operations.BuildOperationDescriptor;
+import org.gradle.internal.operations.BuildOperationRunner;
+import org.gradle.internal.operations.RunnableBuildOperation;
 import org.gradle.internal.work.WorkerThreadRegistry;
 import org.gradle.tooling.internal.gradle.GradleBuildIdentity;
 import org.gradle.tooling.internal.gradle.GradleProjectIdentity;
@@ -58,6 +62,7 @@ class DefaultBuildController implements org.gradle.tooling.internal.protocol.Int
     private final BuildEventConsumer buildEventConsumer;
     private final BuildTreeModelSideEffectExecutor sideEffectExecutor;
     private final PayloadSerializer payloadSerializer;
+    private final BuildOperationRunner buildOperationRunner;
 
     public DefaultBuildController(
         BuildTreeModelController controller,
@@ -67,7 +72,8 @@ public DefaultBuildController(
         ToolingModelParameterCarrier.Factory parameterCarrierFactory,
         BuildEventConsumer buildEventConsumer,
         BuildTreeModelSideEffectExecutor sideEffectExecutor,
-        PayloadSerializer payloadSerializer
+        PayloadSerializer payloadSerializer,
+        BuildOperationRunner buildOperationRunner
     ) {
         this.workerThreadRegistry = workerThreadRegistry;
         this.controller = controller;
@@ -77,6 +83,7 @@ public DefaultBuildController(
         this.buildEventConsumer = buildEventConsumer;
         this.sideEffectExecutor = sideEffectExecutor;
         this.payloadSerializer = payloadSerializer;
+        this.buildOperationRunner = buildOperationRunner;
     }
 
     /**
@@ -179,10 +186,36 @@ private void assertCanQuery() {
 
     @Override
     public void dispatch(Object value) {
-        SerializedPayload serializedModel = payloadSerializer.serialize(value);
-        StreamedValue streamedValue = new StreamedValue(serializedModel);
-        BuildEventConsumer buildEventConsumer = this.buildEventConsumer;
-        sideEffectExecutor.runIsolatableSideEffect(() -> buildEventConsumer.dispatch(streamedValue));
+        // Run as a build operation, so that the cost of each value streamed to the client is visible
+        buildOperationRunner.run(new RunnableBuildOperation() {
+            @Override
+            public void run(BuildOperationContext context) {
+                SerializedPayload serializedModel = payloadSerializer.serialize(value);
+                StreamedValue streamedValue = new StreamedValue(serializedModel);
+                BuildEventConsumer buildEventConsumer = DefaultBuildController.this.buildEventConsumer;
+                sideEffectExecutor.runIsolatableSideEffect(() -> buildEventConsumer.dispatch(streamedValue));
+                context.setResult(SendStreamedValueBuildOperationType.RESULT);
+            }
+
+            @Override
+            public BuildOperationDescriptor.Builder description() {
+                String valueType = displayNameOf(value.getClass());
+                return BuildOperationDescriptor.displayName("Send " + valueType + " to client")
+                    .progressDisplayName("Sending " + valueType)
+                    .details(new SendStreamedValueBuildOperationType.Details() {
+                        @Override
+                        public String getValueType() {
+                            return value.getClass().getName();
+                        }
+                    });
+            }
+        });
+    }
+
+    private static String displayNameOf(Class<?> type) {
+        // Anonymous and some synthetic classes have no simple name
+        String simpleName = type.getSimpleName();
+        return simpleName.isEmpty() ? type.getName() : simpleName;
     }
 
 }
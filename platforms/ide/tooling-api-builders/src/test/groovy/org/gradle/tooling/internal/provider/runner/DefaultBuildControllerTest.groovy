@@ -24,13 +24,17 @@ import org.gradle.internal.build.BuildProjectRegistry
 import org.gradle.internal.build.BuildState
 import org.gradle.internal.build.BuildStateRegistry
 import org.gradle.internal.buildtree.BuildTreeModelController
+import org.gradle.internal.buildtree.BuildTreeModelSideEffect
 import org.gradle.internal.buildtree.BuildTreeModelSideEffectExecutor
+import org.gradle.internal.operations.TestBuildOperationRunner
 import org.gradle.internal.work.WorkerThreadRegistry
 import org.gradle.tooling.internal.gradle.GradleBuildIdentity
 import org.gradle.tooling.internal.gradle.GradleProjectIdentity
 import org.gradle.tooling.internal.protocol.InternalUnsupportedModelException
 import org.gradle.tooling.internal.protocol.ModelIdentifier
 import org.gradle.tooling.internal.provider.serialization.PayloadSerializer
+import org.gradle.tooling.internal.provider.serialization.SerializedPayload
+import org.gradle.tooling.internal.provider.serialization.StreamedValue
 import org.gradle.tooling.provider.model.UnknownModelException
 import org.gradle.tooling.provider.model.internal.ToolingModelParameterCarrier
 import org.gradle.tooling.provider.model.internal.ToolingModelScope
@@ -53,7 +57,8 @@ class DefaultBuildControllerTest extends Specification {
     def buildEventConsumer = Mock(BuildEventConsumer)
     def sideEffectExecutor = Mock(BuildTreeModelSideEffectExecutor)
     def payloadSerializer = Mock(PayloadSerializer)
-    def controller = new DefaultBuildController(modelController, workerThreadRegistry, cancellationToken, buildStateRegistry, parameterCarrierFactory, buildEventConsumer, sideEffectExecutor, payloadSerializer)
+    def buildOperationRunner = new TestBuildOperationRunner()
+    def controller = new DefaultBuildController(modelController, workerThreadRegistry, cancellationToken, buildStateRegistry, parameterCarrierFactory, buildEventConsumer, sideEffectExecutor, payloadSerializer, buildOperationRunner)
 
     def "cannot get build model from unmanaged thread"() {
         given:
@@ -257,4 +262,38 @@ class DefaultBuildControllerTest extends Specification {
 
         void setValue(String value)
     }
+
+    def "sends streamed value to client in a build operation"() {
+        def payload = new SerializedPayload(null, [])
+
+        when:
+        controller.dispatch("value")
+
+        then:
+        1 * payloadSerializer.serialize("value") >> payload
+        1 * sideEffectExecutor.runIsolatableSideEffect(_) >> { BuildTreeModelSideEffect sideEffect -> sideEffect.runSideEffect() }
+        1 * buildEventConsumer.dispatch({ it instanceof StreamedValue && it.serializedModel == payload })
+        0 * _
+
+        and:
+        buildOperationRunner.operations.size() == 1
+        buildOperationRunner.operations[0].displayName == "Send String to client"
+        buildOperationRunner.operations[0].progressDisplayName == "Sending String"
+        buildOperationRunner.operations[0].details.valueType == "java.lang.String"
+        buildOperationRunner.log.mostRecentResult(SendStreamedValueBuildOperationType) == SendStreamedValueBuildOperationType.RESULT
+    }
+
+    def "names the build operation after the class name of an anonymous streamed value"() {
+        def value = new Serializable() {}
+
+        when:
+        controller.dispatch(value)
+
+        then:
+        1 * payloadSerializer.serialize(value) >> new SerializedPayload(null, [])
+
+        and:
+        buildOperationRunner.operations[0].displayName == "Send ${value.getClass().name} to client"
+        buildOperationRunner.operations[0].details.valueType == value.getClass().name
+    }
 }
@@ -16,17 +16,25 @@
 
 package org.gradle.tooling.internal.provider.runner
 
+import org.gradle.api.logging.LogLevel
 import org.gradle.internal.buildtree.IntermediateBuildActionRunner
 import org.gradle.internal.buildtree.BuildModelParameters
+import org.gradle.internal.logging.ConfigureLogging
+import org.gradle.internal.logging.TestOutputEventListener
 import org.gradle.internal.operations.BuildOperationExecutor
 import org.gradle.internal.operations.BuildOperationQueue
 import org.gradle.internal.operations.MultipleBuildOperationFailures
+import org.junit.Rule
 import spock.lang.Specification
 
 import java.util.function.Supplier
 
 class IntermediateBuildActionRunnerTest extends Specification {
 
+    def outputEventListener = new TestOutputEventListener()
+    @Rule
+    ConfigureLogging logging = new ConfigureLogging(outputEventListener, LogLevel.INFO)
+
     def buildOperationExecutor = Mock(BuildOperationExecutor)
     def buildModelParameters = Mock(BuildModelParameters)
     def runner = new IntermediateBuildActionRunner(buildOperationExecutor, buildModelParameters, "Test operation")
@@ -140,4 +148,63 @@ class IntermediateBuildActionRunnerTest extends Specification {
         0 * _
     }
 
+    def "logs the parallelism achieved by actions run in parallel"() {
+        given:
+        def action1 = Mock(Supplier)
+        def action2 = Mock(Supplier)
+        def queue = Mock(BuildOperationQueue)
+        def defaultLocale = Locale.getDefault()
+        // Uses a decimal comma by default
+        Locale.setDefault(Locale.GERMANY)
+
+        when:
+        def result = runner.run([action1, action2])
+
+        then:
+        result == ["one", "two"]
+
+        1 * buildModelParameters.isParallelToolingApiActions() >> true
+        1 * buildOperationExecutor.runAllWithAccessToProjectState(_) >> { def params ->
+            def queueingAction = params[0]
+            queueingAction.execute(queue)
+        }
+        2 * queue.add(_) >> { def params ->
+            def action = params[0]
+            action.run(null)
+        }
+        1 * action1.get() >> {
+            Thread.sleep(20)
+            "one"
+        }
+        1 * action2.get() >> "two"
+        0 * _
+
+        and:
+        def message = outputEventListener.toString()
+        message =~ /Ran 2 intermediate build actions in \d+ ms, taking \d+ ms in total \(achieved parallelism: \d+\.\d\)\./
+
+        and:
+        def taken = (message =~ /taking (\d+) ms in total/)[0][1] as long
+        taken >= 20
+
+        cleanup:
+        Locale.setDefault(defaultLocale)
+    }
+
+    def "does not log parallelism of actions run sequentially"() {
+        given:
+        def action1 = Mock(Supplier)
+
+        when:
+        runner.run([action1])
+
+        then:
+        1 * buildModelParameters.isParallelToolingApiActions() >> false
+        1 * action1.get() >> "one"
+        0 * _
+
+        and:
+        !outputEventListener.toString().contains("intermediate build actions")
+    }
+
 }
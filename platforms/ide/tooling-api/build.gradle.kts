@@ -24,7 +24,6 @@ errorprone {
     disabledChecks.addAll(
         "EqualsUnsafeCast", // 1 occurrences
         "FutureReturnValueIgnored", // 1 occurrences
-        "LockNotBeforeTry", // 1 occurrences
         "StringCaseLocaleUsage", // 1 occurrences
         "ThreadLocalUsage", // 2 occurrences
     )
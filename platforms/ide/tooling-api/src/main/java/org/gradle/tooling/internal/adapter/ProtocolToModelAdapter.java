@@ -15,6 +15,7 @@
  */
 package org.gradle.tooling.internal.adapter;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Optional;
 import org.gradle.internal.Cast;
 import org.gradle.internal.UncheckedException;
@@ -48,12 +49,14 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -593,9 +596,10 @@ public void invoke(MethodInvocation invocation) throws Throwable {
         }
     }
 
-    private static class MethodInvocationCache {
-        private final Map<MethodInvocationKey, Optional<Method>> store = new HashMap<MethodInvocationKey, Optional<Method>>();
-        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    @VisibleForTesting
+    static class MethodInvocationCache {
+        // Lookups happen for every method invoked on every view, so read without locking
+        private final ConcurrentMap<MethodInvocationKey, Optional<Method>> store = new ConcurrentHashMap<MethodInvocationKey, Optional<Method>>();
         private final static long MINIMAL_CLEANUP_INTERVAL = 30000;
 
         // For stats we don't really care about thread safety
@@ -603,7 +607,16 @@ private static class MethodInvocationCache {
         private int cacheHit;
         private int evict;
 
-        private CountdownTimer cleanupTimer = Time.startCountdownTimer(MINIMAL_CLEANUP_INTERVAL);
+        private final CountdownTimer cleanupTimer;
+
+        MethodInvocationCache() {
+            this(MINIMAL_CLEANUP_INTERVAL);
+        }
+
+        @VisibleForTesting
+        MethodInvocationCache(long cleanupInterval) {
+            this.cleanupTimer = Time.startCountdownTimer(cleanupInterval);
+        }
 
         private static class MethodInvocationKey {
             private final SoftReference<Class<?>> lookupClass;
@@ -686,54 +699,41 @@ public Method get(MethodInvocation invocation) {
                 name,
                 parameterTypes
             );
-            lock.readLock().lock();
             Optional<Method> cached = store.get(key);
             if (cached == null) {
                 cacheMiss++;
-                lock.readLock().unlock();
-                lock.writeLock().lock();
-                try {
-                    cached = store.get(key);
-                    if (cached == null) {
-                        cached = lookup(owner, name, parameterTypes);
-                        if (cacheMiss % 10 == 0) {
-                            removeDirtyEntries();
-                        }
-                        store.put(key, cached);
-                    }
-                    lock.readLock().lock();
-                } finally {
-                    lock.writeLock().unlock();
+                // Concurrent lookups of the same method may both look it up, which is harmless as they find the same method
+                cached = lookup(owner, name, parameterTypes);
+                Optional<Method> existing = store.putIfAbsent(key, cached);
+                if (existing != null) {
+                    cached = existing;
+                }
+                if (cacheMiss % 10 == 0) {
+                    removeDirtyEntries();
                 }
             } else {
                 cacheHit++;
             }
-            try {
-                return cached.orNull();
-            } finally {
-                lock.readLock().unlock();
-            }
+            return cached.orNull();
         }
 
         /**
          * Removes dirty entries from the cache. Calling System.currentTimeMillis() is costly so we should try to limit calls to this method. This method will only trigger cleanup at most once per
          * 30s.
          */
-        private void removeDirtyEntries() {
+        private synchronized void removeDirtyEntries() {
             if (!cleanupTimer.hasExpired()) {
                 return;
             }
-            lock.writeLock().lock();
             try {
-                for (MethodInvocationKey key : new LinkedList<MethodInvocationKey>(store.keySet())) {
-                    if (key.isDirty()) {
+                for (Iterator<MethodInvocationKey> iterator = store.keySet().iterator(); iterator.hasNext();) {
+                    if (iterator.next().isDirty()) {
                         evict++;
-                        store.remove(key);
+                        iterator.remove();
                     }
                 }
             } finally {
                 cleanupTimer.reset();
-                lock.writeLock().unlock();
             }
         }
 
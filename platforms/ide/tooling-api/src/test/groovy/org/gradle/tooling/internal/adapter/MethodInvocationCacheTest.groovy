@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.tooling.internal.adapter
+
+import org.gradle.test.fixtures.concurrent.ConcurrentSpec
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+class MethodInvocationCacheTest extends ConcurrentSpec {
+    def "caches methods of the delegate and methods that are missing"() {
+        def cache = new ProtocolToModelAdapter.MethodInvocationCache()
+
+        when:
+        def method = cache.get(invocation("abc", "length"))
+
+        then:
+        method.name == "length"
+        cache.get(invocation("abc", "length")).is(method)
+
+        and:
+        cache.get(invocation("abc", "getName")) == null
+        cache.get(invocation("abc", "getName")) == null
+
+        and:
+        cache.toString() == "Cache size: 2 Hits: 2 Miss: 2 Evicted: 0"
+    }
+
+    def "looks up methods concurrently while dirty entries are removed"() {
+        // Removes dirty entries on every tenth miss
+        def cache = new ProtocolToModelAdapter.MethodInvocationCache(0)
+        def delegates = ["abc", 12, 12L, 1.5d, new ArrayList(), new HashMap(), new HashSet(), new LinkedList(), new StringBuilder(), new Object()]
+        def methodNames = ["toString", "hashCode", "size", "length", "isEmpty", "intValue", "getName", "getClass"]
+        def failures = new CopyOnWriteArrayList()
+
+        when:
+        async {
+            8.times {
+                start {
+                    100.times {
+                        delegates.each { delegate ->
+                            methodNames.each { name ->
+                                def expected = delegate.class.methods.find { it.name == name && it.parameterCount == 0 }
+                                def method = cache.get(invocation(delegate, name))
+                                if (expected == null ? method != null : (method == null || method.name != name || !method.declaringClass.isAssignableFrom(delegate.class))) {
+                                    failures << "${delegate.class.name}.${name}() -> ${method}"
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        then:
+        failures.empty
+    }
+
+    private static MethodInvocation invocation(Object delegate, String name) {
+        return new MethodInvocation(name, Object, Object, [] as Class[], null, null, delegate, [] as Object[])
+    }
+}
@@ -16,19 +16,27 @@
 
 package org.gradle.internal.jvm.inspection;
 
+import org.gradle.internal.UncheckedException;
 import org.gradle.internal.jvm.Jvm;
 import org.gradle.jvm.toolchain.internal.InstallationLocation;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
+/**
+ * Caches the metadata of JVM installations by their canonical location.
+ * <p>
+ * Each installation is probed at most once, and probes of different installations can run concurrently.
+ * Invalidation only considers installations whose probe has completed, and never waits for a probe in progress.
+ */
 public class CachingJvmMetadataDetector implements JvmMetadataDetector, ConditionalInvalidation<JvmInstallationMetadata> {
 
-    private final Map<File, JvmInstallationMetadata> javaMetadata = Collections.synchronizedMap(new HashMap<>());
+    private final Map<File, CompletableFuture<JvmInstallationMetadata>> javaMetadata = new ConcurrentHashMap<>();
     private final JvmMetadataDetector delegate;
 
     public CachingJvmMetadataDetector(JvmMetadataDetector delegate) {
@@ -39,7 +47,30 @@ public CachingJvmMetadataDetector(JvmMetadataDetector delegate) {
     @Override
     public JvmInstallationMetadata getMetadata(InstallationLocation javaInstallationLocation) {
         File javaHome = resolveSymlink(javaInstallationLocation.getLocation());
-        return javaMetadata.computeIfAbsent(javaHome, file -> delegate.getMetadata(javaInstallationLocation));
+        CompletableFuture<JvmInstallationMetadata> newProbe = new CompletableFuture<>();
+        CompletableFuture<JvmInstallationMetadata> existingProbe = javaMetadata.putIfAbsent(javaHome, newProbe);
+        if (existingProbe != null) {
+            return await(existingProbe);
+        }
+        // The probe runs outside of the map's lock, so that probes of other installations are not blocked
+        try {
+            JvmInstallationMetadata metadata = delegate.getMetadata(javaInstallationLocation);
+            newProbe.complete(metadata);
+            return metadata;
+        } catch (Throwable t) {
+            // Do not keep the failure, so that a later request probes the installation again
+            javaMetadata.remove(javaHome, newProbe);
+            newProbe.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    private static JvmInstallationMetadata await(CompletableFuture<JvmInstallationMetadata> probe) {
+        try {
+            return probe.join();
+        } catch (CompletionException e) {
+            throw UncheckedException.throwAsUncheckedException(e.getCause());
+        }
     }
 
     private File resolveSymlink(File jdkPath) {
@@ -52,8 +83,6 @@ private File resolveSymlink(File jdkPath) {
 
     @Override
     public void invalidateItemsMatching(Predicate<JvmInstallationMetadata> predicate) {
-        synchronized (javaMetadata) {
-            javaMetadata.entrySet().removeIf(it -> predicate.test(it.getValue()));
-        }
+        javaMetadata.values().removeIf(probe -> probe.isDone() && !probe.isCompletedExceptionally() && predicate.test(probe.join()));
     }
 }
@@ -27,6 +27,8 @@ import spock.lang.Specification
 import spock.lang.TempDir
 
 import java.nio.file.Files
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
 
 class CachingJvmMetadataDetectorTest extends Specification {
 
@@ -111,6 +113,91 @@ class CachingJvmMetadataDetectorTest extends Specification {
         0 * delegate.getMetadata(location2)
     }
 
+    def "probes different installations concurrently and each installation once"() {
+        def location1 = testLocation("jdk1")
+        def location2 = testLocation("jdk2")
+        def bothProbing = new CountDownLatch(2)
+        def probes = Collections.synchronizedList([])
+        def delegate = new JvmMetadataDetector() {
+            @Override
+            JvmInstallationMetadata getMetadata(InstallationLocation location) {
+                if (!(location in [location1, location2])) {
+                    return JvmInstallationMetadata.failure(location.location, "not probed")
+                }
+                probes << location.location.name
+                bothProbing.countDown()
+                def overlapped = bothProbing.await(10, TimeUnit.SECONDS)
+                return JvmInstallationMetadata.failure(location.location, "overlapped: " + overlapped)
+            }
+        }
+        def detector = new CachingJvmMetadataDetector(delegate)
+
+        when:
+        [location1, location2, location1, location2].collect { location ->
+            Thread.start { detector.getMetadata(location) }
+        }*.join()
+
+        then:
+        detector.getMetadata(location1).errorMessage == "overlapped: true"
+        detector.getMetadata(location2).errorMessage == "overlapped: true"
+        probes.sort() == ["jdk1", "jdk2"]
+    }
+
+    def "invalidation does not wait for or discard probes in progress"() {
+        def location = testLocation("jdk")
+        def probing = new CountDownLatch(1)
+        def finishProbe = new CountDownLatch(1)
+        def metadata = Mock(JvmInstallationMetadata)
+        def probes = Collections.synchronizedList([])
+        def delegate = new JvmMetadataDetector() {
+            @Override
+            JvmInstallationMetadata getMetadata(InstallationLocation installationLocation) {
+                if (installationLocation != location) {
+                    return JvmInstallationMetadata.failure(installationLocation.location, "not probed")
+                }
+                probes << installationLocation.location.name
+                probing.countDown()
+                finishProbe.await(10, TimeUnit.SECONDS)
+                return metadata
+            }
+        }
+        def detector = new CachingJvmMetadataDetector(delegate)
+        def tested = Collections.synchronizedList([])
+
+        when:
+        def prober = Thread.start { detector.getMetadata(location) }
+        probing.await(10, TimeUnit.SECONDS)
+        detector.invalidateItemsMatching { tested << it; true }
+        finishProbe.countDown()
+        prober.join()
+
+        then:
+        tested.every { it != metadata }
+        detector.getMetadata(location).is(metadata)
+        probes == ["jdk"]
+    }
+
+    def "probes installation again after probe fails"() {
+        def location = testLocation("jdk")
+        def metadata = Mock(JvmInstallationMetadata)
+        def delegate = Mock(JvmMetadataDetector)
+        def detector = new CachingJvmMetadataDetector(delegate)
+
+        when:
+        detector.getMetadata(location)
+
+        then:
+        1 * delegate.getMetadata(location) >> { throw new IllegalStateException("boom") }
+        thrown(IllegalStateException)
+
+        when:
+        def actual = detector.getMetadata(location)
+
+        then:
+        1 * delegate.getMetadata(location) >> metadata
+        actual.is(metadata)
+    }
+
     private InstallationLocation testLocation(String filePath) {
         return InstallationLocation.userDefined(new File(filePath), "test")
     }
@@ -42,4 +42,90 @@ class GroovyCompilerDaemonReuseIntegrationTest extends AbstractCompilerDaemonReu
     TestJvmComponent getComponent() {
         return new TestGroovyComponent()
     }
+
+    def "reuses compiler daemons across multiple builds"() {
+        withSingleProjectSources()
+        buildFile << """
+            tasks.compileMain2Groovy {
+                dependsOn("compileGroovy")
+            }
+        """
+
+        when:
+        succeeds("compileAll")
+
+        then:
+        executedAndNotSkipped "${compileTaskPath('main')}", "${compileTaskPath('main2')}"
+
+        and:
+        assertOneCompilerDaemonIsRunning()
+
+        when:
+        executer.withWorkerDaemonsExpirationDisabled()
+        succeeds("clean", "compileAll")
+
+        then:
+        executedAndNotSkipped "${compileTaskPath('main')}", "${compileTaskPath('main2')}"
+
+        and:
+        def firstCompilerIdentity = old(runningCompilerDaemons[0])
+        assertRunningCompilerDaemonIs(firstCompilerIdentity)
+    }
+
+    def "does not retain AST transformation classes in a compiler daemon reused across builds"() {
+        settingsFile << """
+            include ":transform"
+        """
+        buildFile << """
+            dependencies {
+                implementation project(":transform")
+            }
+        """
+        file("transform/src/main/resources/META-INF/services/org.codehaus.groovy.transform.ASTTransformation") << "TrackingTransformation"
+        file("transform/src/main/groovy/TrackingTransformation.groovy") << """
+            import org.codehaus.groovy.ast.ASTNode
+            import org.codehaus.groovy.control.CompilePhase
+            import org.codehaus.groovy.control.SourceUnit
+            import org.codehaus.groovy.reflection.ClassInfo
+            import org.codehaus.groovy.transform.ASTTransformation
+            import org.codehaus.groovy.transform.GroovyASTTransformation
+
+            @GroovyASTTransformation(phase = CompilePhase.CONVERSION)
+            class TrackingTransformation implements ASTTransformation {
+                void visit(ASTNode[] nodes, SourceUnit source) {
+                    // Make sure the Groovy runtime of the compiler knows about this class, as it would for any dynamically dispatched call
+                    ClassInfo.getClassInfo(getClass())
+                    // The types of the transformations of earlier compilations are removed from the Groovy runtime when each compilation completes,
+                    // so only the class loaded for this compilation should be known to it, whether or not the earlier class loaders were collected
+                    int known = ClassInfo.allClassInfo.count { it.theClass.name == "TrackingTransformation" }
+                    println("AST transformation classes known to Groovy: " + known)
+                }
+            }
+        """
+        file("src/main/groovy/Transformed.groovy") << """
+            class Transformed {
+                String name
+            }
+        """
+
+        when:
+        succeeds("compileGroovy")
+
+        then:
+        outputContains("AST transformation classes known to Groovy: 1")
+        assertOneCompilerDaemonIsRunning()
+        def firstCompilerIdentity = runningCompilerDaemons[0]
+
+        when:
+        4.times {
+            executer.withWorkerDaemonsExpirationDisabled()
+            succeeds(":clean", ":compileGroovy")
+
+            // Each build loads the transformation with a new class loader, in the same compiler daemon
+            outputContains("AST transformation classes known to Groovy: 1")
+        }
+
+        then:
+        assertRunningCompilerDaemonIs(firstCompilerIdentity)
+    }
 }
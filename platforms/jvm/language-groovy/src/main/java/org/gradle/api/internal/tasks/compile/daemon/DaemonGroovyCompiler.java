@@ -138,7 +138,10 @@ protected DaemonForkOptions toDaemonForkOptions(GroovyJavaJointCompileSpec spec)
 
         return new DaemonForkOptionsBuilder(forkOptionsFactory)
             .javaForkOptions(javaForkOptions)
-            .keepAliveMode(KeepAliveMode.SESSION)
+            // Like the Java compiler daemon, keep the worker and its loaded compiler warm across builds.
+            // After each compilation, ApiGroovyCompiler removes the compile classpath and AST transformation types from the ClassInfo
+            // and preference caches of the compiler's Groovy runtime and stops their loaders, so these types do not accumulate in the worker.
+            .keepAliveMode(KeepAliveMode.DAEMON)
             .withClassLoaderStructure(classLoaderStructure)
             .build();
     }
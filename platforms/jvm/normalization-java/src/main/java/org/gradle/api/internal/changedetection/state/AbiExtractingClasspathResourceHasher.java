@@ -34,28 +34,80 @@
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Objects;
 
 public class AbiExtractingClasspathResourceHasher implements ResourceHasher {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbiExtractingClasspathResourceHasher.class);
     public static final AbiExtractingClasspathResourceHasher DEFAULT = withFallback(
         ApiClassExtractor.withWriter(JavaApiMemberWriter.adapter())
             .includePackagePrivateMembers()
-            .build());
+            .build(),
+        "java api, including package private members");
+
+    private static final HashCode NO_ABI_HASH = Hashing.signature(AbiExtractingClasspathResourceHasher.class.getName() + " : no ABI hash");
 
     private final ApiClassExtractor extractor;
     private final FallbackStrategy fallbackStrategy;
+    @Nullable
+    private final String extractorConfiguration;
+    @Nullable
+    private final ClassEntryAbiHashCache classEntryCache;
+    @Nullable
+    private final HashCode classEntryConfigurationHash;
 
-    private AbiExtractingClasspathResourceHasher(ApiClassExtractor extractor, FallbackStrategy fallbackStrategy) {
+    private AbiExtractingClasspathResourceHasher(ApiClassExtractor extractor, FallbackStrategy fallbackStrategy, @Nullable String extractorConfiguration, @Nullable ClassEntryAbiHashCache classEntryCache) {
         this.extractor = extractor;
         this.fallbackStrategy = fallbackStrategy;
+        this.extractorConfiguration = extractorConfiguration;
+        this.classEntryCache = classEntryCache;
+        if (classEntryCache != null) {
+            if (extractorConfiguration == null) {
+                throw new IllegalStateException("Cannot cache the ABI hashes of class entries without a description of the extractor configuration.");
+            }
+            // The cache is shared by all hashers of the user home, so the key must tell apart hashers that produce different hashes for the same class
+            Hasher hasher = Hashing.newHasher();
+            appendConfigurationToHasher(hasher);
+            hasher.putString(extractorConfiguration);
+            hasher.putString(fallbackStrategy.name());
+            hasher.putString("class entry");
+            this.classEntryConfigurationHash = hasher.hash();
+        } else {
+            this.classEntryConfigurationHash = null;
+        }
     }
 
     public static AbiExtractingClasspathResourceHasher withFallback(ApiClassExtractor extractor) {
-        return new AbiExtractingClasspathResourceHasher(extractor, FallbackStrategy.FULL_HASH);
+        return new AbiExtractingClasspathResourceHasher(extractor, FallbackStrategy.FULL_HASH, null, null);
+    }
+
+    /**
+     * Creates a hasher with a fallback, whose extractor is configured as described by {@code extractorConfiguration}.
+     * The description is required to cache the ABI hashes of class entries, as the configuration of an extractor cannot be queried.
+     */
+    public static AbiExtractingClasspathResourceHasher withFallback(ApiClassExtractor extractor, String extractorConfiguration) {
+        return new AbiExtractingClasspathResourceHasher(extractor, FallbackStrategy.FULL_HASH, extractorConfiguration, null);
     }
 
     public static AbiExtractingClasspathResourceHasher withoutFallback(ApiClassExtractor extractor) {
-        return new AbiExtractingClasspathResourceHasher(extractor, FallbackStrategy.NONE);
+        return new AbiExtractingClasspathResourceHasher(extractor, FallbackStrategy.NONE, null, null);
+    }
+
+    /**
+     * Creates a hasher without a fallback, whose extractor is configured as described by {@code extractorConfiguration}.
+     * The description is required to cache the ABI hashes of class entries, as the configuration of an extractor cannot be queried.
+     */
+    public static AbiExtractingClasspathResourceHasher withoutFallback(ApiClassExtractor extractor, String extractorConfiguration) {
+        return new AbiExtractingClasspathResourceHasher(extractor, FallbackStrategy.NONE, extractorConfiguration, null);
+    }
+
+    /**
+     * Returns a hasher that caches the ABI hash of each class file in an archive by the content of the class file.
+     * When a jar is rebuilt, only its changed classes then need to be parsed again.
+     *
+     * <p>The cache key includes the description of the extractor configuration and the fallback strategy, so only a hasher created with a description can cache.</p>
+     */
+    public AbiExtractingClasspathResourceHasher cachingClassEntriesIn(ClassEntryAbiHashCache classEntryCache) {
+        return new AbiExtractingClasspathResourceHasher(extractor, fallbackStrategy, extractorConfiguration, classEntryCache);
     }
 
     @Nullable
@@ -94,9 +146,27 @@ public HashCode hash(ZipEntryContext zipEntryContext) throws IOException {
         // be handled as a failure at the file level rather than at the entry level
         byte[] content = zipEntry.getContent();
 
+        if (classEntryCache == null || !classEntryCache.isCacheable(zipEntryContext.getRootParentName())) {
+            return hashClassEntry(zipEntry.getName(), content);
+        }
+        Hasher keyHasher = Hashing.newHasher();
+        keyHasher.putHash(Objects.requireNonNull(classEntryConfigurationHash));
+        keyHasher.putBytes(content);
+        HashCode key = keyHasher.hash();
+        HashCode cachedHash = classEntryCache.getIfPresent(key);
+        if (cachedHash != null) {
+            return cachedHash.equals(NO_ABI_HASH) ? null : cachedHash;
+        }
+        HashCode abiHash = hashClassEntry(zipEntry.getName(), content);
+        classEntryCache.put(key, abiHash == null ? NO_ABI_HASH : abiHash);
+        return abiHash;
+    }
+
+    @Nullable
+    private HashCode hashClassEntry(String name, byte[] content) throws IOException {
         // If there is a problem with hashing the public api of the zip entry, use a fallback strategy (if available) to
         // calculate a fallback hash for the entry
-        return fallbackStrategy.handle(new ZipEntryContent(zipEntry.getName(), content), entry -> hashClassBytes(content));
+        return fallbackStrategy.handle(new ZipEntryContent(name, content), entry -> hashClassBytes(content));
     }
 
     private static boolean isNotClassFile(String name) {
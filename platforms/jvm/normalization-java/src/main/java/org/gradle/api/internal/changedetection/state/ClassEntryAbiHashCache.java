@@ -0,0 +1,40 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state;
+
+import org.gradle.internal.hash.HashCode;
+
+import javax.annotation.Nullable;
+
+/**
+ * Stores the ABI hashes of class files in archives, keyed by the hash of the class file content and the hasher configuration.
+ * When an archive is rebuilt, only the classes that changed then need to be parsed again.
+ *
+ * <p>Kept separate from the per-file {@link ResourceSnapshotterCacheService}, so the many per-class entries do not evict the per-archive ones.</p>
+ */
+public interface ClassEntryAbiHashCache {
+    /**
+     * Whether the class entries of the given archive should be cached.
+     * Archives that never change, like the ones in Gradle's global caches, do not benefit from it, and hashing their class files for the key would only be overhead.
+     */
+    boolean isCacheable(String archivePath);
+
+    @Nullable
+    HashCode getIfPresent(HashCode key);
+
+    void put(HashCode key, HashCode abiHash);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state;
+
+import org.gradle.internal.fingerprint.FileSystemLocationFingerprint;
+import org.gradle.internal.hash.HashCode;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Stores the fingerprints of the entries of archives nested in other archives, so an unchanged nested archive does not need to be unpacked again when its enclosing archive changes.
+ *
+ * <p>Fingerprints are relative to the nested archive and are keyed by the hash of the nested archive's content and the hasher configuration.</p>
+ */
+public interface NestedZipFingerprintCache {
+    @Nullable
+    List<FileSystemLocationFingerprint> getIfPresent(HashCode key);
+
+    void put(HashCode key, List<FileSystemLocationFingerprint> fingerprints);
+}
@@ -16,6 +16,7 @@
 
 package org.gradle.api.internal.changedetection.state;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.apache.commons.io.FilenameUtils;
 import org.gradle.api.internal.file.archive.ZipEntry;
@@ -59,19 +60,34 @@ public static boolean isZipFile(final String name) {
     private final ResourceHasher resourceHasher;
     private final ZipHasher fallbackZipHasher;
     private final HashingExceptionReporter hashingExceptionReporter;
+    private final NestedZipFingerprintCache nestedZipFingerprintCache;
+    private final HashCode configurationHash;
 
     public ZipHasher(ResourceHasher resourceHasher) {
+        this(resourceHasher, null);
+    }
+
+    public ZipHasher(ResourceHasher resourceHasher, @Nullable NestedZipFingerprintCache nestedZipFingerprintCache) {
         this(
             resourceHasher,
             null,
-            (s, e) -> LOGGER.debug("Malformed archive '{}'. Falling back to full content hash instead of entry hashing.", s.getName(), e)
+            (s, e) -> LOGGER.debug("Malformed archive '{}'. Falling back to full content hash instead of entry hashing.", s.getName(), e),
+            nestedZipFingerprintCache
         );
     }
 
     public ZipHasher(ResourceHasher resourceHasher, @Nullable ZipHasher fallbackZipHasher, HashingExceptionReporter hashingExceptionReporter) {
+        this(resourceHasher, fallbackZipHasher, hashingExceptionReporter, null);
+    }
+
+    public ZipHasher(ResourceHasher resourceHasher, @Nullable ZipHasher fallbackZipHasher, HashingExceptionReporter hashingExceptionReporter, @Nullable NestedZipFingerprintCache nestedZipFingerprintCache) {
         this.resourceHasher = resourceHasher;
         this.fallbackZipHasher = fallbackZipHasher;
         this.hashingExceptionReporter = hashingExceptionReporter;
+        this.nestedZipFingerprintCache = nestedZipFingerprintCache;
+        Hasher hasher = Hashing.newHasher();
+        appendConfigurationToHasher(hasher);
+        this.configurationHash = hasher.hash();
     }
 
     @Nullable
@@ -122,16 +138,56 @@ private void fingerprintZipEntries(String parentName, String rootParentName, Lis
             String fullName = parentName.isEmpty() ? zipEntry.getName() : parentName + "/" + zipEntry.getName();
             ZipEntryContext zipEntryContext = new DefaultZipEntryContext(zipEntry, fullName, rootParentName);
             if (isZipFile(zipEntry.getName())) {
-                zipEntryContext.getEntry().withInputStream(inputStream -> {
-                    fingerprintZipEntries(fullName, rootParentName, fingerprints, new StreamZipInput(inputStream));
-                    return null;
-                });
+                fingerprintNestedZipEntries(zipEntryContext, fingerprints);
             } else {
                 fingerprintZipEntry(zipEntryContext, fingerprints);
             }
         }
     }
 
+    private void fingerprintNestedZipEntries(ZipEntryContext zipEntryContext, List<FileSystemLocationFingerprint> fingerprints) throws IOException {
+        ZipEntry zipEntry = zipEntryContext.getEntry();
+        String fullName = zipEntryContext.getFullName();
+        String rootParentName = zipEntryContext.getRootParentName();
+        if (nestedZipFingerprintCache == null || !zipEntry.canReopen()) {
+            zipEntry.withInputStream(inputStream -> {
+                fingerprintZipEntries(fullName, rootParentName, fingerprints, new StreamZipInput(inputStream));
+                return null;
+            });
+            return;
+        }
+
+        // Hashing the nested archive is a lot cheaper than unpacking and hashing each of its entries
+        HashCode contentHash = zipEntry.withInputStream(Hashing::hashStream);
+        Hasher hasher = Hashing.newHasher();
+        hasher.putHash(configurationHash);
+        hasher.putHash(contentHash);
+        HashCode cacheKey = hasher.hash();
+
+        List<FileSystemLocationFingerprint> relativeFingerprints = nestedZipFingerprintCache.getIfPresent(cacheKey);
+        if (relativeFingerprints == null) {
+            List<FileSystemLocationFingerprint> nestedFingerprints = new ArrayList<>();
+            zipEntry.withInputStream(inputStream -> {
+                fingerprintZipEntries(fullName, rootParentName, nestedFingerprints, new StreamZipInput(inputStream));
+                return null;
+            });
+            ImmutableList.Builder<FileSystemLocationFingerprint> builder = ImmutableList.builderWithExpectedSize(nestedFingerprints.size());
+            int prefixLength = fullName.length() + 1;
+            for (FileSystemLocationFingerprint fingerprint : nestedFingerprints) {
+                String path = fingerprint.getNormalizedPath();
+                String relativePath = path.length() > fullName.length() ? path.substring(prefixLength) : "";
+                builder.add(new DefaultFileSystemLocationFingerprint(relativePath, FileType.RegularFile, fingerprint.getNormalizedContentHash()));
+            }
+            relativeFingerprints = builder.build();
+            nestedZipFingerprintCache.put(cacheKey, relativeFingerprints);
+        }
+        for (FileSystemLocationFingerprint fingerprint : relativeFingerprints) {
+            String relativePath = fingerprint.getNormalizedPath();
+            String path = relativePath.isEmpty() ? fullName : fullName + "/" + relativePath;
+            fingerprints.add(new DefaultFileSystemLocationFingerprint(path, FileType.RegularFile, fingerprint.getNormalizedContentHash()));
+        }
+    }
+
     private void fingerprintZipEntry(ZipEntryContext zipEntryContext, List<FileSystemLocationFingerprint> fingerprints) throws IOException {
         HashCode hash = resourceHasher.hash(zipEntryContext);
         if (hash != null) {
@@ -135,6 +135,146 @@ class AbiExtractingClasspathResourceHasherTest extends Specification {
         e.message == "Boom!"
     }
 
+    def "caches abi hash of zip entries by their content when caching class entries"() {
+        def apiClassExtractor = Mock(ApiClassExtractor)
+        def classEntryCache = Mock(ClassEntryAbiHashCache)
+
+        def resourceHasher = AbiExtractingClasspathResourceHasher.withFallback(apiClassExtractor, "test extractor").cachingClassEntriesIn(classEntryCache)
+        def zipEntryContext = Mock(ZipEntryContext)
+        def zipEntry = Mock(ZipEntry)
+        def classContent = bytesOf(String.class)
+        def abi = "abi".bytes
+
+        when:
+        def hash = resourceHasher.hash(zipEntryContext)
+
+        then:
+        1 * zipEntryContext.getEntry() >> zipEntry
+        1 * zipEntryContext.getRootParentName() >> "/path/to/lib.jar"
+        _ * zipEntry.getName() >> 'String.class'
+        1 * zipEntry.getContent() >> classContent
+        1 * classEntryCache.isCacheable("/path/to/lib.jar") >> true
+        1 * classEntryCache.getIfPresent(_) >> null
+        1 * apiClassExtractor.extractApiClassFrom(classContent) >> Optional.of(abi)
+        1 * classEntryCache.put(_, Hashing.hashBytes(abi))
+
+        and:
+        hash == Hashing.hashBytes(abi)
+    }
+
+    def "does not parse class again when abi hash of zip entry is cached"() {
+        def apiClassExtractor = Mock(ApiClassExtractor)
+        def classEntryCache = Mock(ClassEntryAbiHashCache)
+        def cachedHash = Hashing.hashString("cached")
+
+        def resourceHasher = AbiExtractingClasspathResourceHasher.withFallback(apiClassExtractor, "test extractor").cachingClassEntriesIn(classEntryCache)
+        def zipEntryContext = Mock(ZipEntryContext)
+        def zipEntry = Mock(ZipEntry)
+
+        when:
+        def hash = resourceHasher.hash(zipEntryContext)
+
+        then:
+        1 * zipEntryContext.getEntry() >> zipEntry
+        _ * zipEntryContext.getRootParentName() >> "/path/to/lib.jar"
+        _ * zipEntry.getName() >> 'String.class'
+        1 * zipEntry.getContent() >> bytesOf(String.class)
+        1 * classEntryCache.isCacheable(_) >> true
+        1 * classEntryCache.getIfPresent(_) >> cachedHash
+        0 * classEntryCache.put(_, _)
+        0 * apiClassExtractor._
+
+        and:
+        hash == cachedHash
+    }
+
+    def "caches that a class in a zip entry has no abi"() {
+        def apiClassExtractor = Mock(ApiClassExtractor)
+        def cachedHashes = [:]
+        def classEntryCache = Stub(ClassEntryAbiHashCache) {
+            isCacheable(_) >> true
+            getIfPresent(_) >> { args -> cachedHashes[args[0]] }
+            put(_, _) >> { args -> cachedHashes[args[0]] = args[1] }
+        }
+
+        def resourceHasher = AbiExtractingClasspathResourceHasher.withFallback(apiClassExtractor, "test extractor").cachingClassEntriesIn(classEntryCache)
+        def zipEntryContext = Stub(ZipEntryContext)
+        def zipEntry = Stub(ZipEntry)
+        zipEntryContext.getEntry() >> zipEntry
+        zipEntryContext.getRootParentName() >> "/path/to/lib.jar"
+        zipEntry.getName() >> 'String.class'
+        zipEntry.getContent() >> bytesOf(String.class)
+
+        when:
+        def first = resourceHasher.hash(zipEntryContext)
+        def second = resourceHasher.hash(zipEntryContext)
+
+        then:
+        1 * apiClassExtractor.extractApiClassFrom(_) >> Optional.empty()
+        first == null
+        second == null
+    }
+
+    def "does not cache abi hash of zip entries in archives that are not cacheable"() {
+        def apiClassExtractor = Mock(ApiClassExtractor)
+        def classEntryCache = Mock(ClassEntryAbiHashCache)
+        def abi = "abi".bytes
+
+        def resourceHasher = AbiExtractingClasspathResourceHasher.withFallback(apiClassExtractor, "test extractor").cachingClassEntriesIn(classEntryCache)
+        def zipEntryContext = Stub(ZipEntryContext)
+        def zipEntry = Stub(ZipEntry)
+        zipEntryContext.getEntry() >> zipEntry
+        zipEntryContext.getRootParentName() >> "/gradle-home/caches/lib.jar"
+        zipEntry.getName() >> 'String.class'
+        zipEntry.getContent() >> bytesOf(String.class)
+
+        when:
+        def hash = resourceHasher.hash(zipEntryContext)
+
+        then:
+        1 * classEntryCache.isCacheable("/gradle-home/caches/lib.jar") >> false
+        0 * classEntryCache._
+        1 * apiClassExtractor.extractApiClassFrom(_) >> Optional.of(abi)
+
+        and:
+        hash == Hashing.hashBytes(abi)
+    }
+
+    def "uses different class entry keys for hashers with a different fallback or extractor configuration"() {
+        def apiClassExtractor = Stub(ApiClassExtractor)
+        def keys = []
+        def classEntryCache = Stub(ClassEntryAbiHashCache) {
+            isCacheable(_) >> true
+            getIfPresent(_) >> { args -> keys << args[0]; null }
+        }
+        def zipEntryContext = Stub(ZipEntryContext)
+        def zipEntry = Stub(ZipEntry)
+        zipEntryContext.getEntry() >> zipEntry
+        zipEntryContext.getRootParentName() >> "/path/to/lib.jar"
+        zipEntry.getName() >> 'String.class'
+        zipEntry.getContent() >> bytesOf(String.class)
+        apiClassExtractor.extractApiClassFrom(_) >> Optional.of("abi".bytes)
+
+        when:
+        AbiExtractingClasspathResourceHasher.withFallback(apiClassExtractor, "package private members").cachingClassEntriesIn(classEntryCache).hash(zipEntryContext)
+        AbiExtractingClasspathResourceHasher.withoutFallback(apiClassExtractor, "package private members").cachingClassEntriesIn(classEntryCache).hash(zipEntryContext)
+        AbiExtractingClasspathResourceHasher.withFallback(apiClassExtractor, "public members").cachingClassEntriesIn(classEntryCache).hash(zipEntryContext)
+        AbiExtractingClasspathResourceHasher.withFallback(apiClassExtractor, "package private members").cachingClassEntriesIn(classEntryCache).hash(zipEntryContext)
+
+        then:
+        keys.size() == 4
+        keys.unique(false).size() == 3
+        keys[3] == keys[0]
+    }
+
+    def "cannot cache class entries of a hasher without a description of the extractor configuration"() {
+        when:
+        AbiExtractingClasspathResourceHasher.withoutFallback(Stub(ApiClassExtractor)).cachingClassEntriesIn(Stub(ClassEntryAbiHashCache))
+
+        then:
+        thrown(IllegalStateException)
+    }
+
     private static byte[] bytesOf(Class<?> clazz) {
         String classFile = "/${clazz.getName().replaceAll('\\.', '/')}.class"
         return IOUtils.toByteArray(clazz.getResource(classFile).openStream())
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state
+
+import org.gradle.internal.hash.Hashing
+import spock.lang.Specification
+
+import static org.gradle.api.internal.changedetection.state.PropertiesFileAwareClasspathResourceHasherTest.zipEntry
+
+class RuntimeClasspathResourceHasherTest extends Specification {
+    def hasher = new RuntimeClasspathResourceHasher()
+
+    def "hashes content of zip entry with #size bytes"() {
+        def content = new byte[size]
+        new Random(size).nextBytes(content)
+
+        expect:
+        hasher.hash(zipEntry("some/Resource.class", content)) == Hashing.hashBytes(content)
+
+        where:
+        size << [0, 100, 1024 * 1024, 2 * 1024 * 1024]
+    }
+}
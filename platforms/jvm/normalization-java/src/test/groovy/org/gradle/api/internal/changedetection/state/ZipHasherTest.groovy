@@ -19,8 +19,10 @@ package org.gradle.api.internal.changedetection.state
 import com.google.common.collect.ImmutableSet
 import org.gradle.internal.file.FileMetadata.AccessType
 import org.gradle.internal.file.impl.DefaultFileMetadata
+import org.gradle.internal.fingerprint.FileSystemLocationFingerprint
 import org.gradle.internal.fingerprint.hashing.RegularFileSnapshotContext
 import org.gradle.internal.fingerprint.hashing.ResourceHasher
+import org.gradle.internal.hash.HashCode
 import org.gradle.internal.hash.TestHashCodes
 import org.gradle.internal.snapshot.RegularFileSnapshot
 import org.gradle.test.fixtures.file.TestFile
@@ -42,6 +44,8 @@ class ZipHasherTest extends Specification {
     ResourceEntryFilter propertyResourceFilter = new IgnoringResourceEntryFilter(ImmutableSet.copyOf("created-by", "पशुपतिरपि"))
     ZipHasher zipHasher = new ZipHasher(resourceHasher(ResourceEntryFilter.FILTER_NOTHING, ResourceEntryFilter.FILTER_NOTHING))
     ZipHasher ignoringZipHasher = new ZipHasher(resourceHasher(manifestResourceFilter, propertyResourceFilter))
+    InMemoryNestedZipFingerprintCache nestedZipFingerprintCache = new InMemoryNestedZipFingerprintCache()
+    ZipHasher cachingZipHasher = new ZipHasher(resourceHasher(ResourceEntryFilter.FILTER_NOTHING, ResourceEntryFilter.FILTER_NOTHING), nestedZipFingerprintCache)
 
     static ResourceHasher resourceHasher(ResourceEntryFilter manifestResourceFilter, ResourceEntryFilter propertyResourceFilter) {
         ResourceHasher hasher = new RuntimeClasspathResourceHasher()
@@ -91,6 +95,69 @@ class ZipHasherTest extends Specification {
         hash1 != hash2
     }
 
+    def "relative path of nested zip entries is tracked when the same nested zip is reused"() {
+        given:
+        def innerContent = tmpDir.createDir("inner")
+        innerContent.file("foo") << "Foo"
+        innerContent.file("bar/bar.txt") << "Bar"
+        def inner = tmpDir.file("inner.jar")
+        innerContent.zipTo(inner)
+
+        def outerContent1 = tmpDir.createDir("outer1")
+        outerContent1.file("lib/inner.jar").copyFrom(inner)
+        def outer1 = tmpDir.file("outer1.jar")
+        outerContent1.zipTo(outer1)
+
+        def outerContent2 = tmpDir.createDir("outer2")
+        outerContent2.file("other/inner.jar").copyFrom(inner)
+        def outer2 = tmpDir.file("outer2.jar")
+        outerContent2.zipTo(outer2)
+
+        def outerContent3 = tmpDir.createDir("outer3")
+        outerContent3.file("lib/inner.jar").copyFrom(inner)
+        outerContent3.file("other.txt") << "Other"
+        def outer3 = tmpDir.file("outer3.jar")
+        outerContent3.zipTo(outer3)
+
+        when:
+        def hash1 = cachingZipHasher.hash(snapshotContext(outer1))
+        def hash2 = cachingZipHasher.hash(snapshotContext(outer2))
+        def hash3 = cachingZipHasher.hash(snapshotContext(outer3))
+        outerContent3.file("other.txt").delete()
+        outerContent3.zipTo(outer3)
+        def hash4 = cachingZipHasher.hash(snapshotContext(outer3))
+
+        then:
+        hash1 != hash2
+        hash1 != hash3
+        hash1 == hash4
+        hash1 == zipHasher.hash(snapshotContext(outer1))
+        hash2 == zipHasher.hash(snapshotContext(outer2))
+        nestedZipFingerprintCache.puts == 1
+        nestedZipFingerprintCache.hits == 3
+    }
+
+    def "nested zip fingerprints are not shared between hashers with different configuration"() {
+        given:
+        def innerContent = tmpDir.createDir("inner")
+        innerContent.file("META-INF/MANIFEST.MF") << "Manifest-Version: 1.0\nCreated-By: 1.8.0\n"
+        def outerContent = tmpDir.createDir("outer")
+        innerContent.zipTo(outerContent.file("inner.jar"))
+        def outer = tmpDir.file("outer.jar")
+        outerContent.zipTo(outer)
+        def cachingIgnoringZipHasher = new ZipHasher(resourceHasher(manifestResourceFilter, propertyResourceFilter), nestedZipFingerprintCache)
+
+        when:
+        def hash = cachingZipHasher.hash(snapshotContext(outer))
+        def ignoringHash = cachingIgnoringZipHasher.hash(snapshotContext(outer))
+
+        then:
+        hash == zipHasher.hash(snapshotContext(outer))
+        ignoringHash == ignoringZipHasher.hash(snapshotContext(outer))
+        nestedZipFingerprintCache.puts == 2
+        nestedZipFingerprintCache.hits == 0
+    }
+
     def "changing manifest attributes changes the hashcode"() {
         given:
         def jarfile = tmpDir.file("test.jar")
@@ -178,4 +245,25 @@ class ZipHasherTest extends Specification {
     private static RegularFileSnapshotContext snapshotContext(TestFile file) {
         return new DefaultRegularFileSnapshotContext({ }, new RegularFileSnapshot(file.path, file.name, TestHashCodes.hashCodeFrom(0), DefaultFileMetadata.file(0, 0, AccessType.DIRECT)))
     }
+
+    private static class InMemoryNestedZipFingerprintCache implements NestedZipFingerprintCache {
+        final Map<HashCode, List<FileSystemLocationFingerprint>> entries = [:]
+        int hits
+        int puts
+
+        @Override
+        List<FileSystemLocationFingerprint> getIfPresent(HashCode key) {
+            def fingerprints = entries.get(key)
+            if (fingerprints != null) {
+                hits++
+            }
+            return fingerprints
+        }
+
+        @Override
+        void put(HashCode key, List<FileSystemLocationFingerprint> fingerprints) {
+            puts++
+            entries.put(key, fingerprints)
+        }
+    }
 }
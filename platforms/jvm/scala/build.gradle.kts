@@ -61,6 +61,10 @@ dependencies {
     testImplementation(testFixtures(projects.pluginsJava))
     testImplementation(testFixtures(projects.languageJvm))
     testImplementation(testFixtures(projects.languageJava))
+    testImplementation(libs.zinc) {
+        exclude(module="log4j-core")
+        exclude(module="log4j-api")
+    }
 
     integTestImplementation(projects.jvmServices)
 
@@ -16,19 +16,121 @@
 
 package org.gradle.api.internal.tasks.scala;
 
-import org.gradle.cache.Cache;
-import org.gradle.cache.internal.MapBackedCache;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.hash.Hashing;
+import org.gradle.internal.time.Time;
+import org.gradle.internal.time.Timer;
+import xsbti.compile.AnalysisContents;
 import xsbti.compile.AnalysisStore;
 import xsbti.compile.FileAnalysisStore;
 
+import javax.annotation.Nullable;
 import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 public class AnalysisStoreProvider {
+    private static final Logger LOGGER = Logging.getLogger(AnalysisStoreProvider.class);
+    private static final int ANALYSIS_CACHE_SIZE = 16;
 
-    private final Cache<File, AnalysisStore> cache = new MapBackedCache<>(new ConcurrentHashMap<>());
+    /**
+     * Analysis loaded or written by previous compilations in this process, kept as long as memory allows.
+     * Entries are only used while the analysis file on disk still has the content they were read from or written to.
+     * Hashing the file is a lot cheaper than deserializing the analysis, and unlike the file's metadata it cannot miss a rewrite within the timestamp resolution.
+     */
+    private static final Cache<File, CachedAnalysis> ANALYSIS_CACHE = CacheBuilder.newBuilder()
+        .maximumSize(ANALYSIS_CACHE_SIZE)
+        .softValues()
+        .build();
+
+    private final Map<File, AnalysisStore> stores = new ConcurrentHashMap<>();
 
     AnalysisStore get(final File analysisFile) {
-        return AnalysisStore.getCachedStore(cache.get(analysisFile, () -> AnalysisStore.getThreadSafeStore(FileAnalysisStore.getDefault(analysisFile))));
+        return AnalysisStore.getCachedStore(stores.computeIfAbsent(analysisFile, file -> AnalysisStore.getThreadSafeStore(new ProcessCachedAnalysisStore(file, FileAnalysisStore.getDefault(file)))));
+    }
+
+    /**
+     * Keeps the analysis in {@link #ANALYSIS_CACHE}.
+     *
+     * <p>Stored analysis is cached by reference. This is safe because Zinc's analysis and setup are immutable, so the compiler cannot change the cached value after handing it over.</p>
+     */
+    @VisibleForTesting
+    static class ProcessCachedAnalysisStore implements AnalysisStore {
+        private final File analysisFile;
+        private final AnalysisStore delegate;
+
+        ProcessCachedAnalysisStore(File analysisFile, AnalysisStore delegate) {
+            this.analysisFile = analysisFile;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<AnalysisContents> get() {
+            return load(delegate::get);
+        }
+
+        @Override
+        public AnalysisContents unsafeGet() {
+            return load(() -> Optional.of(delegate.unsafeGet())).get();
+        }
+
+        private Optional<AnalysisContents> load(Supplier<Optional<AnalysisContents>> loader) {
+            HashCode contentHash = hashContent(analysisFile);
+            if (contentHash == null) {
+                ANALYSIS_CACHE.invalidate(analysisFile);
+                return loader.get();
+            }
+            CachedAnalysis cached = ANALYSIS_CACHE.getIfPresent(analysisFile);
+            if (cached != null && cached.contentHash.equals(contentHash)) {
+                LOGGER.info("Reusing Zinc analysis for {} from memory.", analysisFile);
+                return Optional.of(cached.contents);
+            }
+            Timer timer = Time.startTimer();
+            Optional<AnalysisContents> contents = loader.get();
+            LOGGER.info("Loaded Zinc analysis from {}: {}", analysisFile, timer.getElapsed());
+            // The hash is taken before reading, so a concurrent change of the file causes a reload next time
+            contents.ifPresent(it -> ANALYSIS_CACHE.put(analysisFile, new CachedAnalysis(contentHash, it)));
+            return contents;
+        }
+
+        @Override
+        public void set(AnalysisContents contents) {
+            ANALYSIS_CACHE.invalidate(analysisFile);
+            Timer timer = Time.startTimer();
+            delegate.set(contents);
+            LOGGER.info("Stored Zinc analysis to {}: {}", analysisFile, timer.getElapsed());
+            HashCode contentHash = hashContent(analysisFile);
+            if (contentHash != null) {
+                ANALYSIS_CACHE.put(analysisFile, new CachedAnalysis(contentHash, contents));
+            }
+        }
+
+        @Nullable
+        private static HashCode hashContent(File analysisFile) {
+            try {
+                return Hashing.hashFile(analysisFile);
+            } catch (IOException e) {
+                // Missing or unreadable, never served from memory
+                return null;
+            }
+        }
+    }
+
+    private static class CachedAnalysis {
+        private final HashCode contentHash;
+        private final AnalysisContents contents;
+
+        CachedAnalysis(HashCode contentHash, AnalysisContents contents) {
+            this.contentHash = contentHash;
+            this.contents = contents;
+        }
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.tasks.scala
+
+import org.gradle.test.fixtures.file.TestFile
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+import xsbti.compile.AnalysisContents
+import xsbti.compile.AnalysisStore
+
+class AnalysisStoreProviderTest extends Specification {
+    @Rule
+    TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider(getClass())
+
+    def delegate = Mock(AnalysisStore)
+    def contents = Stub(AnalysisContents)
+    TestFile analysisFile
+
+    def setup() {
+        analysisFile = tmpDir.file("analysis.bin")
+    }
+
+    def "reuses analysis loaded by another store while the file is unchanged"() {
+        given:
+        analysisFile.text = "analysis"
+
+        when:
+        def loaded = store().get()
+
+        then:
+        1 * delegate.get() >> Optional.of(contents)
+        loaded.get() == contents
+
+        when:
+        def reused = store().get()
+
+        then:
+        0 * delegate._
+        reused.get() == contents
+    }
+
+    def "reloads analysis when the file is rewritten with the same size and modification time"() {
+        given:
+        analysisFile.text = "analysis"
+        def lastModified = analysisFile.lastModified()
+        def newContents = Stub(AnalysisContents)
+
+        when:
+        store().get()
+
+        then:
+        1 * delegate.get() >> Optional.of(contents)
+
+        when:
+        analysisFile.text = "rewrites"
+        analysisFile.setLastModified(lastModified)
+        def loaded = store().get()
+
+        then:
+        1 * delegate.get() >> Optional.of(newContents)
+        loaded.get() == newContents
+    }
+
+    def "reloads analysis when the file is deleted"() {
+        given:
+        analysisFile.text = "analysis"
+
+        when:
+        store().get()
+
+        then:
+        1 * delegate.get() >> Optional.of(contents)
+
+        when:
+        analysisFile.delete()
+        def loaded = store().get()
+
+        then:
+        1 * delegate.get() >> Optional.empty()
+        !loaded.present
+    }
+
+    def "reuses stored analysis without reading the file"() {
+        when:
+        store().set(contents)
+
+        then:
+        1 * delegate.set(contents) >> { analysisFile.text = "analysis" }
+
+        when:
+        def loaded = store().get()
+
+        then:
+        0 * delegate._
+        loaded.get() == contents
+    }
+
+    def "does not reuse stored analysis when the file is changed afterwards"() {
+        def newContents = Stub(AnalysisContents)
+
+        when:
+        store().set(contents)
+
+        then:
+        1 * delegate.set(contents) >> { analysisFile.text = "analysis" }
+
+        when:
+        analysisFile.text = "changed"
+        def loaded = store().get()
+
+        then:
+        1 * delegate.get() >> Optional.of(newContents)
+        loaded.get() == newContents
+    }
+
+    private AnalysisStore store() {
+        return new AnalysisStoreProvider.ProcessCachedAnalysisStore(analysisFile, delegate)
+    }
+}
@@ -34,17 +34,22 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Resolves include directives to header files, caching the lookups made in each include directory.
+ *
+ * <p>The caches are safe to use concurrently, so that the include file graphs of multiple source files can be checked in parallel.</p>
+ */
 public class DefaultSourceIncludesResolver implements SourceIncludesResolver {
     private static final MissingIncludeFile MISSING_INCLUDE_FILE = new MissingIncludeFile();
     private final FileSystemAccess fileSystemAccess;
-    private final Map<File, DirectoryContents> includeRoots = new HashMap<File, DirectoryContents>();
+    private final Map<File, DirectoryContents> includeRoots = new ConcurrentHashMap<File, DirectoryContents>();
     private final FixedIncludePath includePath;
 
     public DefaultSourceIncludesResolver(List<File> includePaths, FileSystemAccess fileSystemAccess) {
@@ -259,12 +264,7 @@ public IncludeFile resolveInclude(@Nullable File sourceFile, String includePath)
     }
 
     private DirectoryContents toDir(File includeDir) {
-        DirectoryContents directoryContents = includeRoots.get(includeDir);
-        if (directoryContents == null) {
-            directoryContents = new DirectoryContents(includeDir);
-            includeRoots.put(includeDir, directoryContents);
-        }
-        return directoryContents;
+        return includeRoots.computeIfAbsent(includeDir, DirectoryContents::new);
     }
 
     private IncludePath prependSourceDir(File sourceFile, FixedIncludePath includePaths) {
@@ -303,7 +303,7 @@ IncludeFile searchForDependency(String includePath, boolean quotedPath) {
 
     private static class FixedIncludePath extends IncludePath {
         private final List<DirectoryContents> directories;
-        private final Map<String, CachedIncludeFile> cachedLookups = new HashMap<String, CachedIncludeFile>();
+        private final Map<String, CachedIncludeFile> cachedLookups = new ConcurrentHashMap<String, CachedIncludeFile>();
 
         FixedIncludePath(List<DirectoryContents> directories) {
             this.directories = directories;
@@ -338,20 +338,25 @@ public boolean startsWith(File sourceDir) {
 
     private class DirectoryContents {
         private final File searchDir;
-        private final Map<String, CachedIncludeFile> contents = new HashMap<String, CachedIncludeFile>();
+        private final Map<String, CachedIncludeFile> contents = new ConcurrentHashMap<String, CachedIncludeFile>();
 
         DirectoryContents(File searchDir) {
             this.searchDir = searchDir;
         }
 
         CachedIncludeFile get(String includePath) {
-            return contents.computeIfAbsent(includePath,
-                key -> {
-                    File candidate = normalizeIncludePath(searchDir, includePath);
-                    return fileSystemAccess.readRegularFileContentHash(candidate.getAbsolutePath())
-                        .map(contentHash -> (CachedIncludeFile) new SystemIncludeFile(candidate, key, contentHash))
-                        .orElse(MISSING_INCLUDE_FILE);
-                });
+            CachedIncludeFile includeFile = contents.get(includePath);
+            if (includeFile != null) {
+                return includeFile;
+            }
+            // Read the file system without holding the map's lock, so lookups of other include paths are not blocked.
+            // Threads looking up the same include path at the same time both read the file, and the first result is kept.
+            File candidate = normalizeIncludePath(searchDir, includePath);
+            CachedIncludeFile resolved = fileSystemAccess.readRegularFileContentHash(candidate.getAbsolutePath())
+                .map(contentHash -> (CachedIncludeFile) new SystemIncludeFile(candidate, includePath, contentHash))
+                .orElse(MISSING_INCLUDE_FILE);
+            CachedIncludeFile existing = contents.putIfAbsent(includePath, resolved);
+            return existing != null ? existing : resolved;
         }
     }
 
@@ -35,7 +35,9 @@
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 public class IncrementalCompileFilesFactory {
 
@@ -78,60 +80,85 @@ public IncrementalCompilation getResult() {
         }
 
         @Override
-        public void processSource(File sourceFile) {
-            if (visitSourceFile(sourceFile)) {
-                toRecompile.add(sourceFile);
+        public void processSources(Collection<File> sourceFiles) {
+            // Checking whether the include file graph recorded for a source file has changed only reads the file system,
+            // so do this for all source files in parallel. Source files whose graph has changed are then analysed one at a
+            // time, in order, as the results of visiting each header are reused across source files.
+            List<File> orderedSourceFiles = new ArrayList<File>(sourceFiles);
+            List<PreviousGraphCheck> checks = orderedSourceFiles.parallelStream()
+                .map(this::checkPreviousGraph)
+                .collect(Collectors.toList());
+            for (int i = 0; i < orderedSourceFiles.size(); i++) {
+                File sourceFile = orderedSourceFiles.get(i);
+                if (visitSourceFile(sourceFile, checks.get(i))) {
+                    toRecompile.add(sourceFile);
+                }
+            }
+        }
+
+        /**
+         * Determines whether the include file graph recorded for the given source file by the previous compilation is still valid.
+         * Does not modify the state of this processor, so can be called concurrently.
+         */
+        private PreviousGraphCheck checkPreviousGraph(File sourceFile) {
+            Optional<HashCode> fileContent = fileSystemAccess.readRegularFileContentHash(sourceFile.getAbsolutePath());
+            if (!fileContent.isPresent()) {
+                return new PreviousGraphCheck(null, null);
             }
+            SourceFileState previousState = previous.getState(sourceFile);
+            Set<File> headers = previousState != null ? unchangedGraphHeaders(sourceFile, fileContent.get(), previousState) : null;
+            return new PreviousGraphCheck(fileContent.get(), headers);
         }
 
         /**
          * @return true if this source file requires recompilation, false otherwise.
          */
-        private boolean visitSourceFile(File sourceFile) {
-            return fileSystemAccess.readRegularFileContentHash(sourceFile.getAbsolutePath())
-                .map(fileContent -> {
-                    SourceFileState previousState = previous.getState(sourceFile);
-
-                    if (previousState != null) {
-                        // Already seen this source file before. See if we can reuse the analysis from last time
-                        if (graphHasNotChanged(sourceFile, fileContent, previousState, existingHeaders)) {
-                            // Include file graph for this source file has not changed, skip this file
-                            current.setState(sourceFile, previousState);
-                            if (previousState.isHasUnresolved() && !ignoreUnresolvedHeadersInDependencies) {
-                                hasUnresolvedHeaders = true;
-                                return true;
-                            }
-                            return false;
-                        }
-                        // Else, something has changed in the include file graph for this source file, so analyse again
-                    }
+        private boolean visitSourceFile(File sourceFile, PreviousGraphCheck check) {
+            HashCode fileContent = check.fileContent;
+            if (fileContent == null) {
+                // Skip things that aren't files
+                return false;
+            }
 
-                    // Source file has not been compiled before, or its include file graph has changed in some way
-                    // Calculate the include file graph for the source file and mark for recompilation
-
-                    CollectingMacroLookup visibleMacros = new CollectingMacroLookup(initialIncludeDirectives);
-                    FileVisitResult result = visitFile(sourceFile, fileContent, visibleMacros, new HashSet<HashCode>(), existingHeaders);
-                    Set<IncludeFileEdge> includedFiles = new LinkedHashSet<IncludeFileEdge>();
-                    result.collectFilesInto(includedFiles, new HashSet<File>());
-                    SourceFileState newState = new SourceFileState(fileContent, result.result == IncludeFileResolutionResult.UnresolvedMacroIncludes, ImmutableSet.copyOf(includedFiles));
-                    current.setState(sourceFile, newState);
-                    if (newState.isHasUnresolved()) {
-                        hasUnresolvedHeaders = true;
-                    }
+            if (check.headers != null) {
+                // Include file graph for this source file has not changed, skip this file
+                SourceFileState previousState = previous.getState(sourceFile);
+                existingHeaders.addAll(check.headers);
+                current.setState(sourceFile, previousState);
+                if (previousState.isHasUnresolved() && !ignoreUnresolvedHeadersInDependencies) {
+                    hasUnresolvedHeaders = true;
                     return true;
-                })
-                // Skip things that aren't files
-                .orElse(false);
+                }
+                return false;
+            }
+
+            // Source file has not been compiled before, or its include file graph has changed in some way
+            // Calculate the include file graph for the source file and mark for recompilation
+
+            CollectingMacroLookup visibleMacros = new CollectingMacroLookup(initialIncludeDirectives);
+            FileVisitResult result = visitFile(sourceFile, fileContent, visibleMacros, new HashSet<HashCode>(), existingHeaders);
+            Set<IncludeFileEdge> includedFiles = new LinkedHashSet<IncludeFileEdge>();
+            result.collectFilesInto(includedFiles, new HashSet<File>());
+            SourceFileState newState = new SourceFileState(fileContent, result.result == IncludeFileResolutionResult.UnresolvedMacroIncludes, ImmutableSet.copyOf(includedFiles));
+            current.setState(sourceFile, newState);
+            if (newState.isHasUnresolved()) {
+                hasUnresolvedHeaders = true;
+            }
+            return true;
         }
 
-        private boolean graphHasNotChanged(File sourceFile, HashCode fileHash, SourceFileState previousState, Set<File> existingHeaders) {
+        /**
+         * @return the headers in the include file graph of the source file when the graph has not changed, null otherwise.
+         */
+        @Nullable
+        private Set<File> unchangedGraphHeaders(File sourceFile, HashCode fileHash, SourceFileState previousState) {
             if (!fileHash.equals(previousState.getHash())) {
                 // Source file has changed
-                return false;
+                return null;
             }
             if (previousState.getEdges().isEmpty()) {
                 // Source file has not changed and no include files
-                return true;
+                return Collections.emptySet();
             }
 
             // Check each unique edge in the include file graph
@@ -143,21 +170,18 @@ private boolean graphHasNotChanged(File sourceFile, HashCode fileHash, SourceFil
                 SourceIncludesResolver.IncludeFile includeFile = sourceIncludesResolver.resolveInclude(includedFrom, includeFileEdge.getIncludePath());
                 if (includeFile == null) {
                     // Include file not found (but previously was found)
-                    return false;
+                    return null;
                 }
                 HashCode hash = includeFile.getContentHash();
                 if (!hash.equals(includeFileEdge.getResolvedTo())) {
                     // Include file changed
-                    return false;
-                }
-                if (!existingHeaders.contains(includeFile.getFile())) {
-                    // Collect for later, do not add until the graph is known to have not changed
-                    headers.add(includeFile.getFile());
+                    return null;
                 }
+                // Collect for later, do not add until the graph is known to have not changed
+                headers.add(includeFile.getFile());
                 includes.put(hash, includeFile.getFile());
             }
-            existingHeaders.addAll(headers);
-            return true;
+            return headers;
         }
 
         private FileVisitResult visitFile(File file, HashCode newHash, CollectingMacroLookup visibleMacros, Set<HashCode> visited, Set<File> existingHeaders) {
@@ -228,6 +252,23 @@ private List<File> getRemovedSources() {
         }
     }
 
+    /**
+     * The outcome of checking the include file graph recorded for a source file by the previous compilation.
+     */
+    private static class PreviousGraphCheck {
+        // Null when the source file is not a regular file
+        @Nullable
+        final HashCode fileContent;
+        // Non-null when the include file graph has not changed
+        @Nullable
+        final Set<File> headers;
+
+        PreviousGraphCheck(@Nullable HashCode fileContent, @Nullable Set<File> headers) {
+            this.fileContent = fileContent;
+            this.headers = headers;
+        }
+    }
+
     private enum IncludeFileResolutionResult {
         NoMacroIncludes,
         HasMacroIncludes, // but all resolved ok
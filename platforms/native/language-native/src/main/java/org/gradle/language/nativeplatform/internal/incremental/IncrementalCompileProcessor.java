@@ -41,9 +41,7 @@ public IncrementalCompilation processSourceFiles(final Collection<File> sourceFi
             public IncrementalCompilation call(BuildOperationContext context) {
                 CompilationState previousCompileState = previousCompileStateCache.get();
                 IncrementalCompileSourceProcessor processor = incrementalCompileFilesFactory.files(previousCompileState);
-                for (File sourceFile : sourceFiles) {
-                    processor.processSource(sourceFile);
-                }
+                processor.processSources(sourceFiles);
                 return processor.getResult();
             }
 
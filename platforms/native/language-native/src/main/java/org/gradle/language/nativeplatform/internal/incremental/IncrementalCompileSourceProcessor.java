@@ -17,9 +17,10 @@
 package org.gradle.language.nativeplatform.internal.incremental;
 
 import java.io.File;
+import java.util.Collection;
 
 public interface IncrementalCompileSourceProcessor {
-    void processSource(File sourceFile);
+    void processSources(Collection<File> sourceFiles);
 
     IncrementalCompilation getResult();
 }
@@ -23,7 +23,18 @@
  * This code is largely adopted from org.apache.tools.ant.filters.StripJavaComments.
  */
 public class PreprocessingReader {
+    private static final int BUFFER_SIZE = 8192;
+
     private final Reader reader;
+
+    /**
+     * The characters read from the underlying reader, consumed from {@link #charsPos} up to {@link #charsLimit}.
+     * The reader is read in chunks, so that it does not need to be buffered and is not called once per character.
+     */
+    private final char[] chars = new char[BUFFER_SIZE];
+    private int charsPos;
+    private int charsLimit;
+
     /**
      * The read-ahead characters, used for reading ahead up to 2 characters and pushing back into stream.
      * A value of -1 indicates that no character is in the buffer.
@@ -71,6 +82,44 @@ public boolean readNextLine(Appendable buffer) throws IOException {
         return read;
     }
 
+    /**
+     * Collects the next preprocessor directive line from the filtered stream into the given buffer, skipping all other lines.
+     * A directive line is a line whose first non-whitespace character is {@code #}. The buffer receives the line starting
+     * at the {@code #}, without the line separators.
+     *
+     * @return true if a directive line is available, false when end of stream reached.
+     */
+    public boolean readNextDirectiveLine(Appendable buffer) throws IOException {
+        int ch;
+        boolean directive = false;
+        boolean leadingWhitespace = true;
+        while ((ch = read()) >= 0) {
+            if (ch == '\n' || ch == '\r') {
+                if (ch == '\r') {
+                    int next = next();
+                    if (next != '\n') {
+                        pushBack(next);
+                    }
+                }
+                if (directive) {
+                    return true;
+                }
+                leadingWhitespace = true;
+            } else if (directive) {
+                buffer.append((char) ch);
+            } else if (leadingWhitespace) {
+                if (ch == '#') {
+                    buffer.append('#');
+                    directive = true;
+                } else if (!Character.isWhitespace(ch) && ch != 0) {
+                    // Not a directive, ignore the remainder of the line
+                    leadingWhitespace = false;
+                }
+            }
+        }
+        return directive;
+    }
+
     /**
      * Returns the next character in the filtered stream:
      * <ul>
@@ -153,7 +202,15 @@ private int next() throws IOException {
             return ch;
         }
 
-        return reader.read();
+        if (charsPos == charsLimit) {
+            int count = reader.read(chars, 0, chars.length);
+            if (count <= 0) {
+                return -1;
+            }
+            charsPos = 0;
+            charsLimit = count;
+        }
+        return chars[charsPos++];
     }
 
     private void pushBack(int ch) {
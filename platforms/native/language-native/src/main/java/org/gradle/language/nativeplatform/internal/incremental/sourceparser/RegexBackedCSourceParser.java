@@ -26,7 +26,6 @@
 import org.gradle.language.nativeplatform.internal.MacroFunction;
 
 import javax.annotation.Nullable;
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
@@ -57,12 +56,11 @@ protected IncludeDirectives parseSource(Reader sourceReader) throws IOException
         Set<Include> includes = new LinkedHashSet<>();
         List<Macro> macros = new ArrayList<>();
         List<MacroFunction> macroFunctions = new ArrayList<>();
-        BufferedReader reader = new BufferedReader(sourceReader);
-        PreprocessingReader lineReader = new PreprocessingReader(reader);
+        PreprocessingReader lineReader = new PreprocessingReader(sourceReader);
         Buffer buffer = new Buffer();
         while (true) {
             buffer.reset();
-            if (!lineReader.readNextLine(buffer.value)) {
+            if (!lineReader.readNextDirectiveLine(buffer.value)) {
                 break;
             }
             buffer.consumeWhitespace();
@@ -382,6 +382,28 @@ class IncrementalCompileProcessorTest extends Specification {
         result.unresolvedHeaders
     }
 
+    def "reports changed source files in source order when many source files are checked"() {
+        given:
+        def sources = (1..50).collect { sourceFile("many${it}") }
+        sources.eachWithIndex { source, i ->
+            graph[source] = i % 3 == 0 ? [dep1] : [dep2, dep4]
+        }
+        initialFiles()
+        sourceFiles.addAll(sources)
+        assert state.recompile == sources
+
+        when:
+        modified(dep3)
+        modified(sources[7])
+
+        then:
+        def expected = [source1, source2] + sources.findAll { graph[it] == [dep1] || it == sources[7] }
+        checkCompile recompiled: expected, removed: []
+
+        and:
+        state.existingHeaders == [dep1, dep2, dep3, dep4] as Set
+    }
+
     def checkCompile(Map<String, List<File>> args) {
         parseAndResolve()
         with(state) {
@@ -150,4 +150,35 @@ line comments.
         "inline comment" | "/* inline comment at the start */of the line" | " of the line"
         "line continuation" | "${BN} at the start of the content" | " at the start of the content"
     }
+
+    def "reads only directive lines"() {
+        when:
+        def reader = new PreprocessingReader(new StringReader("""
+int a;
+  #include "a.h"
+/* comment */ # define X Y
+int b; #include "not-a-directive.h"
+#import <b.h>""".replace('\n', eol)))
+        def lines = []
+        def line = new StringBuilder()
+        while (reader.readNextDirectiveLine(line)) {
+            lines << line.toString()
+            line.setLength(0)
+        }
+
+        then:
+        lines == ['#include "a.h"', '# define X Y', '#import <b.h>']
+
+        where:
+        eol << ['\n', '\r', '\r\n']
+    }
+
+    def "reads content larger than the read buffer"() {
+        when:
+        def text = (1..5000).collect { "line ${it} /* comment */" }.join("\n")
+        input = text
+
+        then:
+        output == text.replace("/* comment */", " ")
+    }
 }
@@ -38,6 +38,7 @@
 import org.gradle.api.internal.artifacts.transform.InputArtifactDependenciesAnnotationHandler;
 import org.gradle.api.internal.artifacts.transform.TransformActionScheme;
 import org.gradle.api.internal.artifacts.transform.TransformParameterScheme;
+import org.gradle.api.internal.artifacts.verification.serializer.CachingDependencyVerificationsReader;
 import org.gradle.api.internal.model.NamedObjectInstantiator;
 import org.gradle.api.internal.tasks.properties.InspectionScheme;
 import org.gradle.api.internal.tasks.properties.InspectionSchemeFactory;
@@ -94,6 +95,11 @@ NotationParser<Object, ComponentSelector> createComponentSelectorFactory(Immutab
             .toComposite();
     }
 
+    @Provides
+    CachingDependencyVerificationsReader createCachingDependencyVerificationsReader(CrossBuildInMemoryCacheFactory cacheFactory) {
+        return new CachingDependencyVerificationsReader(cacheFactory.newCache());
+    }
+
     @Provides
     DependencyMetadataFactory createDependencyMetadataFactory(ExcludeRuleConverter excludeRuleConverter) {
         return new DefaultDependencyMetadataFactory(
@@ -18,6 +18,7 @@
 
 import com.google.common.collect.ImmutableMap;
 
+import javax.annotation.Nullable;
 import java.util.Comparator;
 import java.util.Locale;
 import java.util.Map;
@@ -77,8 +78,8 @@ public int compare(Version version1, Version version2) {
                 return result;
             }
             // both are strings, we compare them taking into account special meaning
-            Integer sm1 = SPECIAL_MEANINGS.get(part1.toLowerCase(Locale.US));
-            Integer sm2 = SPECIAL_MEANINGS.get(part2.toLowerCase(Locale.US));
+            Integer sm1 = specialMeaningOf(version1, i, part1);
+            Integer sm2 = specialMeaningOf(version2, i, part2);
             if (sm1 != null) {
                 sm2 = sm2 == null ? 0 : sm2;
                 return sm1 - sm2;
@@ -97,4 +98,12 @@ public int compare(Version version1, Version version2) {
 
         return 0;
     }
+
+    @Nullable
+    private static Integer specialMeaningOf(Version version, int index, String part) {
+        if (version instanceof VersionParser.DefaultVersion) {
+            return ((VersionParser.DefaultVersion) version).getSpecialMeaning(index);
+        }
+        return SPECIAL_MEANINGS.get(part.toLowerCase(Locale.US));
+    }
 }
@@ -21,8 +21,10 @@
 import org.gradle.internal.service.scopes.Scope;
 import org.gradle.internal.service.scopes.ServiceScope;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -87,18 +89,23 @@ private Version parse(String original) {
         return new DefaultVersion(original, parts, base);
     }
 
-    private static class DefaultVersion implements Version {
+    static class DefaultVersion implements Version {
         private final String source;
         private final String[] parts;
         private final Long[] numericParts;
+        private final Integer[] specialMeanings;
         private final DefaultVersion baseVersion;
 
         public DefaultVersion(String source, List<String> parts, DefaultVersion baseVersion) {
             this.source = source;
             this.parts = parts.toArray(new String[0]);
             this.numericParts = new Long[this.parts.length];
+            this.specialMeanings = new Integer[this.parts.length];
             for (int i = 0; i < parts.size(); i++) {
                 this.numericParts[i] = Longs.tryParse(this.parts[i]);
+                if (this.numericParts[i] == null) {
+                    this.specialMeanings[i] = StaticVersionComparator.SPECIAL_MEANINGS.get(this.parts[i].toLowerCase(Locale.US));
+                }
             }
             this.baseVersion = baseVersion == null ? this : baseVersion;
         }
@@ -149,5 +156,15 @@ public Long[] getNumericParts() {
         public String getSource() {
             return source;
         }
+
+        /**
+         * Returns the special meaning of the non-numeric part at the given index, computed once when parsing so that comparisons don't allocate.
+         *
+         * @see StaticVersionComparator#SPECIAL_MEANINGS
+         */
+        @Nullable
+        Integer getSpecialMeaning(int index) {
+            return specialMeanings[index];
+        }
     }
 }
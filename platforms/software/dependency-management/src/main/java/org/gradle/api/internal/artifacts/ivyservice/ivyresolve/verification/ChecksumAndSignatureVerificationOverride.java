@@ -31,7 +31,7 @@
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.report.DependencyVerificationReportWriter;
 import org.gradle.api.internal.artifacts.ivyservice.ivyresolve.verification.report.VerificationReport;
 import org.gradle.api.internal.artifacts.verification.exceptions.DependencyVerificationException;
-import org.gradle.api.internal.artifacts.verification.serializer.DependencyVerificationsXmlReader;
+import org.gradle.api.internal.artifacts.verification.serializer.CachingDependencyVerificationsReader;
 import org.gradle.api.internal.artifacts.verification.signatures.BuildTreeDefinedKeys;
 import org.gradle.api.internal.artifacts.verification.signatures.SignatureVerificationService;
 import org.gradle.api.internal.artifacts.verification.signatures.SignatureVerificationServiceFactory;
@@ -40,7 +40,6 @@
 import org.gradle.api.logging.Logger;
 import org.gradle.api.logging.Logging;
 import org.gradle.internal.Factory;
-import org.gradle.internal.UncheckedException;
 import org.gradle.internal.component.external.model.ModuleComponentArtifactIdentifier;
 import org.gradle.internal.component.external.model.ModuleComponentGraphResolveState;
 import org.gradle.internal.concurrent.Stoppable;
@@ -51,10 +50,10 @@
 import org.gradle.internal.operations.BuildOperationExecutor;
 import org.gradle.internal.operations.RunnableBuildOperation;
 import org.gradle.internal.resource.local.FileResourceListener;
+import org.gradle.internal.time.Time;
+import org.gradle.internal.time.Timer;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.net.URI;
 import java.util.Collection;
 import java.util.Deque;
@@ -62,6 +61,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ChecksumAndSignatureVerificationOverride implements DependencyVerificationOverride, ArtifactVerificationOperation, Stoppable {
     private final static Logger LOGGER = Logging.getLogger(ChecksumAndSignatureVerificationOverride.class);
@@ -92,19 +92,16 @@ public ChecksumAndSignatureVerificationOverride(
         DocumentationRegistry documentationRegistry,
         File reportsDirectory,
         Factory<GradleProperties> gradlePropertiesFactory,
-        FileResourceListener fileResourceListener
+        FileResourceListener fileResourceListener,
+        CachingDependencyVerificationsReader verificationsReader
     ) {
         this.buildOperationExecutor = buildOperationExecutor;
         this.checksumService = checksumService;
         this.verificationMode = verificationMode;
         this.fileResourceListener = fileResourceListener;
         try {
-            this.verifier = DependencyVerificationsXmlReader.readFromXml(
-                new FileInputStream(observed(verificationsFile))
-            );
+            this.verifier = verificationsReader.read(observed(verificationsFile));
             this.reportWriter = new DependencyVerificationReportWriter(gradleUserHome.toPath(), documentationRegistry, verificationsFile, verifier.getSuggestedWriteFlags(), reportsDirectory, gradlePropertiesFactory);
-        } catch (FileNotFoundException e) {
-            throw UncheckedException.throwAsUncheckedException(e);
         } catch (DependencyVerificationException e) {
             throw new DependencyVerificationException("Unable to read dependency verification metadata from " + verificationsFile, e.getCause());
         }
@@ -136,11 +133,14 @@ private void verifyConcurrently() {
             LOGGER.debug("Cannot perform verification of all dependencies because the verification service has been shutdown. Under normal circumstances this shouldn't happen unless a user buildFinished was added in an unexpected way.");
             return;
         }
+        Timer timer = Time.startTimer();
+        AtomicInteger verifiedArtifacts = new AtomicInteger();
         buildOperationExecutor.runAll(queue -> {
             VerificationEvent event;
             synchronized (verificationEvents) {
                 while ((event = verificationEvents.poll()) != null) {
                     VerificationEvent ve = event;
+                    verifiedArtifacts.incrementAndGet();
                     queue.add(new RunnableBuildOperation() {
                         @Override
                         public void run(BuildOperationContext context) {
@@ -163,7 +163,7 @@ public BuildOperationDescriptor.Builder description() {
                 }
             }
         });
-
+        LOGGER.info("Dependency verification of {} artifacts took {}", verifiedArtifacts.get(), timer.getElapsed());
     }
 
     @Override
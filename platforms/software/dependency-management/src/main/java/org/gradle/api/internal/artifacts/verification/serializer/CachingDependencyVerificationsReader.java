@@ -0,0 +1,53 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.verification.serializer;
+
+import org.gradle.api.internal.artifacts.verification.verifier.DependencyVerifier;
+import org.gradle.cache.internal.CrossBuildInMemoryCache;
+import org.gradle.internal.UncheckedException;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.hash.Hashing;
+import org.gradle.internal.service.scopes.Scope;
+import org.gradle.internal.service.scopes.ServiceScope;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * Reads dependency verification metadata, reusing the verifier parsed by a previous build
+ * when the content of the verification file did not change.
+ */
+@ServiceScope(Scope.Global.class)
+public class CachingDependencyVerificationsReader {
+    private final CrossBuildInMemoryCache<HashCode, DependencyVerifier> verifiers;
+
+    public CachingDependencyVerificationsReader(CrossBuildInMemoryCache<HashCode, DependencyVerifier> verifiers) {
+        this.verifiers = verifiers;
+    }
+
+    public DependencyVerifier read(File verificationsFile) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(verificationsFile.toPath());
+        } catch (IOException e) {
+            throw UncheckedException.throwAsUncheckedException(e);
+        }
+        return verifiers.get(Hashing.hashBytes(content), () -> DependencyVerificationsXmlReader.readFromXml(new ByteArrayInputStream(content)));
+    }
+}
@@ -68,19 +68,16 @@ public void verify(ChecksumService checksumService,
                        File artifactFile,
                        File signatureFile,
                        ArtifactVerificationResultBuilder builder) {
-        if (shouldSkipVerification(kind)) {
+        if (shouldSkipVerification(kind) || isTrustedArtifact(foundArtifact)) {
+            // Any failure of a trusted artifact would be ignored, so there is no need to hash it or check its signature
             return;
         }
         performVerification(foundArtifact,
             checksumService,
             signatureVerificationService,
             artifactFile,
-            signatureFile, failure -> {
-                if (isTrustedArtifact(foundArtifact)) {
-                    return;
-                }
-                builder.failWith(failure);
-            });
+            signatureFile,
+            builder);
     }
 
     private boolean shouldSkipVerification(ArtifactVerificationOperation.ArtifactKind kind) {
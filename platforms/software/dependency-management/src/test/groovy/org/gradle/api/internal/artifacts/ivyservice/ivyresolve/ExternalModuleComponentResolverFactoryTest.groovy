@@ -39,6 +39,7 @@ import org.gradle.api.internal.artifacts.repositories.descriptor.UrlRepositoryDe
 import org.gradle.api.internal.artifacts.repositories.metadata.ImmutableMetadataSources
 import org.gradle.api.internal.artifacts.repositories.metadata.MetadataArtifactProvider
 import org.gradle.api.internal.artifacts.repositories.resolver.ExternalResourceResolver
+import org.gradle.api.internal.artifacts.verification.serializer.CachingDependencyVerificationsReader
 import org.gradle.api.internal.artifacts.verification.signatures.SignatureVerificationServiceFactory
 import org.gradle.api.internal.attributes.EmptySchema
 import org.gradle.api.internal.attributes.ImmutableAttributes
@@ -75,7 +76,7 @@ class ExternalModuleComponentResolverFactoryTest extends Specification {
         ModuleRepositoryCacheProvider cacheProvider = new ModuleRepositoryCacheProvider(caches, caches)
         StartParameterResolutionOverride startParameterResolutionOverride = Mock(StartParameterResolutionOverride) {
             _ * overrideModuleVersionRepository(_) >> { ModuleComponentRepository repository -> repository }
-            _ * dependencyVerificationOverride(_, _, _, _, _, _, _) >> DependencyVerificationOverride.NO_VERIFICATION
+            _ * dependencyVerificationOverride(_, _, _, _, _, _, _, _) >> DependencyVerificationOverride.NO_VERIFICATION
         }
 
         def resolveStateFactory = DependencyManagementTestUtil.modelGraphResolveFactory()
@@ -86,7 +87,8 @@ class ExternalModuleComponentResolverFactoryTest extends Specification {
             new DocumentationRegistry(),
             Mock(BuildCommencedTimeProvider),
             () -> Mock(GradleProperties),
-            Stub(FileResourceListener)
+            Stub(FileResourceListener),
+            Mock(CachingDependencyVerificationsReader)
         )
 
         return new ExternalModuleComponentResolverFactory(
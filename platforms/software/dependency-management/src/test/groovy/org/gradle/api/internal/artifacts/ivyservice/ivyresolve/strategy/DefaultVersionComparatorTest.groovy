@@ -175,6 +175,19 @@ class DefaultVersionComparatorTest extends Specification {
         versionComparator.compare(v1, v2) < 0
     }
 
+    def "special qualifiers of parsed versions are compared like those of other versions"() {
+        def parsed = versionParser.transform("1.2-RC")
+        def other = Stub(Version) {
+            getParts() >> ["1", "2", "final"]
+            getNumericParts() >> [1, 2, null]
+        }
+
+        expect:
+        def versionComparator = comparator.asVersionComparator()
+        versionComparator.compare(parsed, other) < 0
+        versionComparator.compare(other, parsed) > 0
+    }
+
     def "special qualifiers are treated differently"() {
         expect:
         compare(smaller, larger) < 0
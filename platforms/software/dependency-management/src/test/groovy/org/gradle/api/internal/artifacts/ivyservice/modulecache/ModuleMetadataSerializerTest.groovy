@@ -41,16 +41,22 @@ import org.gradle.internal.component.external.model.ivy.MutableIvyModuleResolveM
 import org.gradle.internal.component.external.model.maven.MutableMavenModuleResolveMetadata
 import org.gradle.internal.component.model.MutableModuleSources
 import org.gradle.internal.hash.Hashing
+import org.gradle.internal.resource.local.DefaultPathKeyFileStore
 import org.gradle.internal.resource.local.FileResourceRepository
 import org.gradle.internal.resource.local.LocalFileStandInExternalResource
 import org.gradle.internal.resource.local.LocallyAvailableExternalResource
 import org.gradle.internal.serialize.InputStreamBackedDecoder
 import org.gradle.internal.serialize.OutputStreamBackedEncoder
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
 import org.gradle.util.AttributeTestUtil
 import org.gradle.util.TestUtil
+import org.gradle.util.internal.SimpleMapInterner
+import org.junit.Rule
 import spock.lang.Specification
 
 class ModuleMetadataSerializerTest extends Specification {
+    @Rule
+    TestNameTestDirectoryProvider temporaryFolder = new TestNameTestDirectoryProvider(getClass())
 
     private final ImmutableModuleIdentifierFactory moduleIdentifierFactory = new DefaultImmutableModuleIdentifierFactory()
     private final MavenMutableModuleMetadataFactory mavenMetadataFactory = DependencyManagementTestUtil.mavenMetadataFactory()
@@ -93,6 +99,23 @@ class ModuleMetadataSerializerTest extends Specification {
 
     }
 
+    def "can write and re-read sample #sample.parentFile.name metadata file #sample.name using the module metadata store"() {
+        given:
+        def store = new ModuleMetadataStore(new DefaultPathKeyFileStore(TestUtil.checksumService, temporaryFolder.file("metadata")), serializer, moduleIdentifierFactory, SimpleMapInterner.notThreadSafe())
+        def metadata = parse(sample)
+        def key = new ModuleComponentAtRepositoryKey("repositoryId", metadata.id)
+
+        when:
+        store.putModuleDescriptor(key, metadata.asImmutable())
+        def deserializedMetadata = store.getModuleDescriptor(key).asImmutable()
+
+        then:
+        deserializedMetadata == metadata.asImmutable()
+
+        where:
+        sample << sampleFiles()
+    }
+
     private MutableModuleComponentResolveMetadata deserialize(byte[] serializedForm) {
         serializer.read(new InputStreamBackedDecoder(new ByteArrayInputStream(serializedForm)), moduleIdentifierFactory, new HashMap())
     }
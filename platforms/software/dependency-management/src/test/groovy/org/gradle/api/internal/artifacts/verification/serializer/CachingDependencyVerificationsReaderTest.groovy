@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.artifacts.verification.serializer
+
+import org.gradle.cache.internal.TestCrossBuildInMemoryCacheFactory
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+class CachingDependencyVerificationsReaderTest extends Specification {
+    @Rule TestNameTestDirectoryProvider temporaryFolder = new TestNameTestDirectoryProvider(getClass())
+
+    def reader = new CachingDependencyVerificationsReader(TestCrossBuildInMemoryCacheFactory.instance().newCache())
+
+    def "reuses verifier while content of verification file is unchanged"() {
+        def verificationsFile = temporaryFolder.file("verification-metadata.xml")
+        verificationsFile.text = verifications(true)
+
+        when:
+        def first = reader.read(verificationsFile)
+        def second = reader.read(verificationsFile)
+
+        then:
+        second.is(first)
+        first.configuration.verifyMetadata
+
+        when:
+        verificationsFile.text = verifications(false)
+        def third = reader.read(verificationsFile)
+
+        then:
+        !third.is(first)
+        !third.configuration.verifyMetadata
+    }
+
+    private static String verifications(boolean verifyMetadata) {
+        """<?xml version="1.0" encoding="UTF-8"?>
+<verification-metadata>
+   <configuration>
+      <verify-metadata>${verifyMetadata}</verify-metadata>
+   </configuration>
+</verification-metadata>
+"""
+    }
+}
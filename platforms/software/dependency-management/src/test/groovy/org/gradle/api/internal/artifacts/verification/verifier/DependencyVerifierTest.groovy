@@ -93,6 +93,18 @@ class DependencyVerifierTest extends Specification {
         0 * result.failWith(_)
     }
 
+    def "does not hash nor check signature of trusted artifacts"() {
+        def trustedArtifact = new DependencyVerificationConfiguration.TrustedArtifact("org", null, null, null, false, null)
+        verifier = new DependencyVerifier([:], new DependencyVerificationConfiguration(true, true, [trustedArtifact], true, [], [] as Set, [], null), [])
+        artifact("org", "foo", "1.0")
+
+        when:
+        verify()
+
+        then:
+        0 * _
+    }
+
     private void artifact(String group, String name, String version) {
         artifact = new ModuleComponentFileArtifactIdentifier(
             DefaultModuleComponentIdentifier.newId(DefaultModuleIdentifier.newId(group, name), version),
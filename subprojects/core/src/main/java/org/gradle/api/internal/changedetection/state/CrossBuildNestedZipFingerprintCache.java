@@ -0,0 +1,47 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state;
+
+import org.gradle.cache.internal.CrossBuildInMemoryCache;
+import org.gradle.cache.internal.CrossBuildInMemoryCacheFactory;
+import org.gradle.internal.fingerprint.FileSystemLocationFingerprint;
+import org.gradle.internal.hash.HashCode;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Keeps the fingerprints of nested archives in memory. Entries not used by the current or previous build can be discarded.
+ */
+public class CrossBuildNestedZipFingerprintCache implements NestedZipFingerprintCache {
+    private final CrossBuildInMemoryCache<HashCode, List<FileSystemLocationFingerprint>> cache;
+
+    public CrossBuildNestedZipFingerprintCache(CrossBuildInMemoryCacheFactory cacheFactory) {
+        this.cache = cacheFactory.newCache();
+    }
+
+    @Nullable
+    @Override
+    public List<FileSystemLocationFingerprint> getIfPresent(HashCode key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(HashCode key, List<FileSystemLocationFingerprint> fingerprints) {
+        cache.put(key, fingerprints);
+    }
+}
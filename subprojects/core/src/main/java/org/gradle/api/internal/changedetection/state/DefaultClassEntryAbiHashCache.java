@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.gradle.cache.GlobalCacheLocations;
+import org.gradle.internal.hash.HashCode;
+import org.gradle.internal.session.BuildSessionLifecycleListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the ABI hashes of the classes of archives outside of Gradle's global caches in memory, up to a fixed number of classes.
+ * The hits and misses of each build session are logged at debug level.
+ */
+public class DefaultClassEntryAbiHashCache implements ClassEntryAbiHashCache, BuildSessionLifecycleListener {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultClassEntryAbiHashCache.class);
+    private static final int MAX_CACHED_CLASSES = 100_000;
+
+    private final GlobalCacheLocations globalCacheLocations;
+    private final Cache<HashCode, HashCode> cache;
+    private CacheStats statsAtSessionStart = new CacheStats(0, 0, 0, 0, 0, 0);
+
+    public DefaultClassEntryAbiHashCache(GlobalCacheLocations globalCacheLocations) {
+        this(globalCacheLocations, MAX_CACHED_CLASSES);
+    }
+
+    @VisibleForTesting
+    DefaultClassEntryAbiHashCache(GlobalCacheLocations globalCacheLocations, int maxCachedClasses) {
+        this.globalCacheLocations = globalCacheLocations;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(maxCachedClasses)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public boolean isCacheable(String archivePath) {
+        return !globalCacheLocations.isInsideGlobalCache(archivePath);
+    }
+
+    @Nullable
+    @Override
+    public HashCode getIfPresent(HashCode key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(HashCode key, HashCode abiHash) {
+        cache.put(key, abiHash);
+    }
+
+    @Override
+    public void beforeComplete() {
+        CacheStats stats = cache.stats();
+        CacheStats sessionStats = stats.minus(statsAtSessionStart);
+        statsAtSessionStart = stats;
+        LOGGER.debug("Class entry ABI hash cache: {} hits, {} misses, {} evictions in this build session.", sessionStats.hitCount(), sessionStats.missCount(), sessionStats.evictionCount());
+    }
+
+    @VisibleForTesting
+    CacheStats getStats() {
+        return cache.stats();
+    }
+}
@@ -22,7 +22,9 @@
 
 import javax.annotation.Nullable;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DefaultCollectionEventRegister<T> implements CollectionEventRegister<T> {
 
@@ -34,6 +36,9 @@
 
     private boolean baseTypeSubscribed;
     private Set<Class<?>> subscribedTypes;
+    // Whether each element type queried so far is a subtype of some subscribed type, discarded when a new type is subscribed.
+    // Queries write to this map, so it is a concurrent map to allow queries from multiple threads, as was the case before it was added.
+    private Map<Class<?>, Boolean> subscribedElementTypes;
 
     public DefaultCollectionEventRegister(Class<? extends T> baseType, CollectionCallbackActionDecorator decorator) {
         this.baseType = baseType;
@@ -49,10 +54,25 @@ public boolean isSubscribed(@Nullable Class<? extends T> type) {
             if (type == null) {
                 return true;
             }
-            for (Class<?> subscribedType : subscribedTypes) {
-                if (subscribedType.isAssignableFrom(type)) {
-                    return true;
-                }
+            Map<Class<?>, Boolean> elementTypes = subscribedElementTypes;
+            if (elementTypes == null) {
+                elementTypes = new ConcurrentHashMap<Class<?>, Boolean>();
+                subscribedElementTypes = elementTypes;
+            }
+            Boolean subscribed = elementTypes.get(type);
+            if (subscribed == null) {
+                subscribed = isSubtypeOfSubscribedType(type);
+                elementTypes.put(type, subscribed);
+            }
+            return subscribed;
+        }
+        return false;
+    }
+
+    private boolean isSubtypeOfSubscribedType(Class<?> type) {
+        for (Class<?> subscribedType : subscribedTypes) {
+            if (subscribedType.isAssignableFrom(type)) {
+                return true;
             }
         }
         return false;
@@ -119,11 +139,14 @@ private void subscribe(Class<? extends T> type) {
         if (type.equals(baseType)) {
             baseTypeSubscribed = true;
             subscribedTypes = null;
+            subscribedElementTypes = null;
         } else {
             if (subscribedTypes == null) {
                 subscribedTypes = new HashSet<Class<?>>();
             }
-            subscribedTypes.add(type);
+            if (subscribedTypes.add(type)) {
+                subscribedElementTypes = null;
+            }
         }
     }
 
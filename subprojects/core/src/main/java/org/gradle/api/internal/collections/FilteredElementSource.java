@@ -79,12 +79,8 @@ public boolean isEmpty() {
         if (collection.isEmpty()) {
             return true;
         } else {
-            for (T o : this) {
-                if (accept(o)) {
-                    return false;
-                }
-            }
-            return true;
+            // The iterator only returns elements accepted by the filter
+            return !iterator().hasNext();
         }
     }
 
@@ -167,10 +163,9 @@ public boolean remove(Object o) {
     public int size() {
         int i = 0;
         // NOTE: There isn't much we can do about collection.matching { } filters as the spec requires a realized element, unless make major changes
-        for (T o : this) {
-            if (accept(o)) {
-                ++i;
-            }
+        // The iterator only returns elements accepted by the filter, so there is no need to apply the filter again
+        for (Iterator<S> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+            ++i;
         }
         return i;
     }
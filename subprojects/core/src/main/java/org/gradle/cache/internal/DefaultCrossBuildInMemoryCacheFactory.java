@@ -83,7 +83,14 @@ public <V> CrossBuildInMemoryCache<Class<?>, V> newClassMap() {
 
     private abstract static class AbstractCrossBuildInMemoryCache<K, V> implements CrossBuildInMemoryCache<K, V>, BuildSessionLifecycleListener {
         private final Object lock = new Object();
-        private final Map<K, V> valuesForThisSession = new HashMap<>();
+        // Prevents more than one thread creating the value for a key, without holding the lock while the value is created.
+        // A factory may ask for other keys, which it waits for when another thread is creating them
+        private final ProducerGuard<K> producerGuard = ProducerGuard.adaptive();
+        // The keys of this cache that the current thread is creating values for
+        private final ThreadLocal<Set<K>> keysBeingCreated = ThreadLocal.withInitial(HashSet::new);
+        // Written only while holding the lock, but read without it so that values already used in this session
+        // can be returned without contending on the lock
+        private final Map<K, V> valuesForThisSession = new ConcurrentHashMap<>();
 
         @Override
         public void beforeComplete() {
@@ -113,6 +120,10 @@ public void clear() {
         @Nullable
         @Override
         public V getIfPresent(K key) {
+            V v = valuesForThisSession.get(key);
+            if (v != null) {
+                return v;
+            }
             synchronized (lock) {
                 return getIfPresentWithoutLock(key);
             }
@@ -120,21 +131,53 @@ public V getIfPresent(K key) {
 
         @Override
         public V get(K key, Function<? super K, ? extends V> factory) {
+            V v = valuesForThisSession.get(key);
+            if (v != null) {
+                return v;
+            }
             synchronized (lock) {
-                V v = getIfPresentWithoutLock(key);
+                v = getIfPresentWithoutLock(key);
                 if (v != null) {
                     return v;
                 }
+            }
 
-                // TODO - do not hold lock while computing value
-                v = factory.apply(key);
-
-                retainValue(key, v);
-
-                // Retain strong reference
-                valuesForThisSession.put(key, v);
+            Set<K> keysBeingCreatedByThisThread = keysBeingCreated.get();
+            if (keysBeingCreatedByThisThread.contains(key)) {
+                // The factory for this key asks for the same key again. Waiting for the guard held by this thread would never return,
+                // so create the value again, as the reentrant cache lock used to allow
+                return createValue(key, factory);
+            }
+            return producerGuard.guardByKey(key, () -> {
+                synchronized (lock) {
+                    V existing = getIfPresentWithoutLock(key);
+                    if (existing != null) {
+                        return existing;
+                    }
+                }
+                keysBeingCreatedByThisThread.add(key);
+                try {
+                    return createValue(key, factory);
+                } finally {
+                    keysBeingCreatedByThisThread.remove(key);
+                }
+            });
+        }
 
-                return v;
+        private V createValue(K key, Function<? super K, ? extends V> factory) {
+            V created = factory.apply(key);
+            synchronized (lock) {
+                // A factory may have asked for the same key while creating this value, keep the first one
+                V existing = getIfPresentWithoutLock(key);
+                if (existing != null) {
+                    return existing;
+                }
+                retainValue(key, created);
+                // Retain strong reference. As before, a null value is never returned as a hit, so is not kept for this session
+                if (created != null) {
+                    valuesForThisSession.put(key, created);
+                }
+                return created;
             }
         }
 
@@ -142,7 +185,9 @@ public V get(K key, Function<? super K, ? extends V> factory) {
         public void put(K key, V value) {
             synchronized (lock) {
                 retainValue(key, value);
-                valuesForThisSession.put(key, value);
+                if (value != null) {
+                    valuesForThisSession.put(key, value);
+                }
             }
         }
 
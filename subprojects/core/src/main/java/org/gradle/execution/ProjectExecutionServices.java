@@ -20,6 +20,8 @@
 import org.gradle.api.internal.cache.StringInterner;
 import org.gradle.api.internal.changedetection.TaskExecutionModeResolver;
 import org.gradle.api.internal.changedetection.changes.DefaultTaskExecutionModeResolver;
+import org.gradle.api.internal.changedetection.state.ClassEntryAbiHashCache;
+import org.gradle.api.internal.changedetection.state.NestedZipFingerprintCache;
 import org.gradle.api.internal.changedetection.state.ResourceSnapshotterCacheService;
 import org.gradle.api.internal.file.FileCollectionFactory;
 import org.gradle.api.internal.file.FileOperations;
@@ -145,12 +147,16 @@ FileCollectionFingerprinterRegistrations createFileCollectionFingerprinterRegist
         StringInterner stringInterner,
         FileCollectionSnapshotter fileCollectionSnapshotter,
         ResourceSnapshotterCacheService resourceSnapshotterCacheService,
+        ClassEntryAbiHashCache classEntryAbiHashCache,
+        NestedZipFingerprintCache nestedZipFingerprintCache,
         InputNormalizationHandlerInternal inputNormalizationHandler
     ) {
         return new FileCollectionFingerprinterRegistrations(
             stringInterner,
             fileCollectionSnapshotter,
             resourceSnapshotterCacheService,
+            classEntryAbiHashCache,
+            nestedZipFingerprintCache,
             inputNormalizationHandler.getRuntimeClasspath().getClasspathResourceFilter(),
             inputNormalizationHandler.getRuntimeClasspath().getManifestAttributeResourceEntryFilter(),
             inputNormalizationHandler.getRuntimeClasspath().getPropertiesFileFilters()
@@ -21,9 +21,10 @@
 import org.gradle.api.internal.initialization.ClassLoaderScope;
 import org.gradle.groovy.scripts.ScriptSource;
 import org.gradle.internal.Cast;
+import org.gradle.internal.lazy.Lazy;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This in-memory cache is responsible for caching compiled build scripts during a build.
@@ -31,11 +32,14 @@
  * which will use the delegate script class compiler in case of a miss. The lookup in this cache is
  * more efficient than looking in the global cache, as we do not check the script's hash code here,
  * assuming that it did not change during the build.
+ * <p>
+ * Scripts are compiled concurrently when projects are configured in parallel, hence the concurrent map.
+ * Entries are memoized lazily, so that compilation runs outside of the map's locks.
  */
 public class BuildScopeInMemoryCachingScriptClassCompiler implements ScriptClassCompiler {
     private final CrossBuildInMemoryCachingScriptClassCache cache;
     private final ScriptClassCompiler scriptClassCompiler;
-    private final Map<ScriptCacheKey, CompiledScript<?, ?>> cachedCompiledScripts = new HashMap<>();
+    private final ConcurrentMap<ScriptCacheKey, Lazy<CompiledScript<?, ?>>> cachedCompiledScripts = new ConcurrentHashMap<>();
 
     public BuildScopeInMemoryCachingScriptClassCompiler(CrossBuildInMemoryCachingScriptClassCache cache, ScriptClassCompiler scriptClassCompiler) {
         this.cache = cache;
@@ -45,12 +49,9 @@ public BuildScopeInMemoryCachingScriptClassCompiler(CrossBuildInMemoryCachingScr
     @Override
     public <T extends Script, M> CompiledScript<T, M> compile(ScriptSource source, Class<T> scriptBaseClass, Object target, ClassLoaderScope targetScope, CompileOperation<M> operation, Action<? super ClassNode> verifier) {
         ScriptCacheKey key = new ScriptCacheKey(source.getClassName(), targetScope.getExportClassLoader(), operation.getId());
-        CompiledScript<T, M> compiledScript = Cast.uncheckedCast(cachedCompiledScripts.get(key));
-        if (compiledScript == null) {
-            compiledScript = cache.getOrCompile(target, source, targetScope, operation, scriptBaseClass, verifier, scriptClassCompiler);
-            cachedCompiledScripts.put(key, compiledScript);
-        }
-        return compiledScript;
+        return Cast.uncheckedCast(cachedCompiledScripts.computeIfAbsent(key, k -> Lazy.locking().of(() ->
+            cache.getOrCompile(target, source, targetScope, operation, scriptBaseClass, verifier, scriptClassCompiler)
+        )).get());
     }
 
 }
@@ -44,6 +44,7 @@
 import org.gradle.internal.hash.HashCode;
 import org.gradle.internal.hash.Hasher;
 import org.gradle.internal.hash.Hashing;
+import org.gradle.internal.lazy.Lazy;
 import org.gradle.internal.scripts.BuildScriptCompilationAndInstrumentation;
 import org.gradle.model.dsl.internal.transform.RuleVisitor;
 import org.objectweb.asm.AnnotationVisitor;
@@ -61,6 +62,8 @@
 import java.io.File;
 import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -80,6 +83,7 @@ public class GroovyScriptClassCompiler implements ScriptClassCompiler, Closeable
     private final InputFingerprinter inputFingerprinter;
     private final ImmutableWorkspaceProvider workspaceProvider;
     private final ClasspathElementTransformFactoryForLegacy transformFactoryForLegacy;
+    private final ConcurrentMap<CompilationKey, Lazy<GroovyScriptCompilationOutput>> compilationOutputs = new ConcurrentHashMap<>();
 
     public GroovyScriptClassCompiler(
         ScriptCompilationHandler scriptCompilationHandler,
@@ -136,6 +140,27 @@ private <T extends Script> GroovyScriptCompilationOutput doCompile(
         CompileOperation<?> operation,
         Action<? super ClassNode> verifier,
         Class<T> scriptBaseClass
+    ) {
+        HashCode classLoaderHash = classLoaderHierarchyHasher.getClassLoaderHash(classLoader);
+        if (classLoaderHash == null) {
+            return executeCompilation(target, templateId, sourceHashCode, source, classLoader, operation, verifier, scriptBaseClass);
+        }
+        // Identical scripts applied from different scopes with the same effective classpath, e.g. a script plugin shared by many projects,
+        // share the same compilation output, so only the first one goes through the execution engine during the build.
+        // The output is memoized lazily, so that the compilation runs outside of the map's locks.
+        CompilationKey key = new CompilationKey(templateId, sourceHashCode, classLoaderHash);
+        return compilationOutputs.computeIfAbsent(key, k -> Lazy.locking().of(() -> executeCompilation(target, templateId, sourceHashCode, source, classLoader, operation, verifier, scriptBaseClass))).get();
+    }
+
+    private <T extends Script> GroovyScriptCompilationOutput executeCompilation(
+        Object target,
+        String templateId,
+        HashCode sourceHashCode,
+        RemappingScriptSource source,
+        ClassLoader classLoader,
+        CompileOperation<?> operation,
+        Action<? super ClassNode> verifier,
+        Class<T> scriptBaseClass
     ) {
         UnitOfWork unitOfWork = new GroovyScriptCompilationAndInstrumentation(
             templateId,
@@ -206,6 +231,40 @@ public Pair<RelativePath, ClassVisitor> apply(ClasspathEntryVisitor.Entry entry,
     public void close() {
     }
 
+    private static class CompilationKey {
+        private final String templateId;
+        private final HashCode sourceHashCode;
+        private final HashCode classLoaderHash;
+
+        CompilationKey(String templateId, HashCode sourceHashCode, HashCode classLoaderHash) {
+            this.templateId = templateId;
+            this.sourceHashCode = sourceHashCode;
+            this.classLoaderHash = classLoaderHash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CompilationKey that = (CompilationKey) o;
+            return templateId.equals(that.templateId)
+                && sourceHashCode.equals(that.sourceHashCode)
+                && classLoaderHash.equals(that.classLoaderHash);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = templateId.hashCode();
+            result = 31 * result + sourceHashCode.hashCode();
+            result = 31 * result + classLoaderHash.hashCode();
+            return result;
+        }
+    }
+
     static class GroovyScriptCompilationAndInstrumentation extends BuildScriptCompilationAndInstrumentation {
 
         private final String templateId;
@@ -24,10 +24,15 @@
 import org.gradle.internal.operations.BuildOperationExecutor;
 import org.gradle.internal.operations.MultipleBuildOperationFailures;
 import org.gradle.internal.operations.RunnableBuildOperation;
+import org.gradle.internal.time.Time;
+import org.gradle.internal.time.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Supplier;
 
 /**
@@ -39,8 +44,11 @@
  * <p>
  * Action failures (if any) are aggregated into {@link MultipleBuildOperationFailures}.
  * Batch execution succeeds only if all action finish without exceptions.
+ * <p>
+ * The parallelism achieved by each batch run in parallel is logged at info level.
  */
 public class IntermediateBuildActionRunner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IntermediateBuildActionRunner.class);
 
     private final BuildOperationExecutor buildOperationExecutor;
     private final BuildModelParameters buildModelParameters;
@@ -65,7 +73,12 @@ public <T> List<T> run(List<Supplier<T>> actions) {
         for (Supplier<T> action : actions) {
             wrappers.add(new NestedAction<>(buildOperationDescription, action));
         }
-        runActions(wrappers);
+        boolean parallel = isParallel();
+        Timer batchTimer = Time.startTimer();
+        runActions(parallel, wrappers);
+        if (parallel && LOGGER.isInfoEnabled()) {
+            logParallelism(wrappers, batchTimer.getElapsedMillis());
+        }
 
         List<T> results = new ArrayList<>(actions.size());
         List<Throwable> failures = new ArrayList<>();
@@ -83,8 +96,18 @@ public <T> List<T> run(List<Supplier<T>> actions) {
         return results;
     }
 
-    private <T> void runActions(Collection<NestedAction<T>> actions) {
-        if (isParallel()) {
+    private static <T> void logParallelism(List<NestedAction<T>> actions, long elapsedMillis) {
+        long totalActionMillis = 0;
+        for (NestedAction<T> action : actions) {
+            totalActionMillis += action.elapsedMillis();
+        }
+        double parallelism = elapsedMillis == 0 ? 1 : (double) totalActionMillis / elapsedMillis;
+        LOGGER.info("Ran {} intermediate build actions in {} ms, taking {} ms in total (achieved parallelism: {}).",
+            actions.size(), elapsedMillis, totalActionMillis, String.format(Locale.ROOT, "%.1f", parallelism));
+    }
+
+    private <T> void runActions(boolean parallel, Collection<NestedAction<T>> actions) {
+        if (parallel) {
             buildOperationExecutor.runAllWithAccessToProjectState(buildOperationQueue -> {
                 for (RunnableBuildOperation action : actions) {
                     buildOperationQueue.add(action);
@@ -106,6 +129,7 @@ private <T> void runActions(Collection<NestedAction<T>> actions) {
         private final String displayName;
         private final Supplier<T> action;
         private Try<T> result;
+        private long elapsedMillis;
 
         public NestedAction(String displayName, Supplier<T> action) {
             this.displayName = displayName;
@@ -114,11 +138,14 @@ public NestedAction(String displayName, Supplier<T> action) {
 
         @Override
         public void run(BuildOperationContext context) {
+            Timer timer = Time.startTimer();
             try {
                 T value = action.get();
                 result = Try.successful(value);
             } catch (Throwable t) {
                 result = Try.failure(t);
+            } finally {
+                elapsedMillis = timer.getElapsedMillis();
             }
         }
 
@@ -126,6 +153,10 @@ public Try<T> value() {
             return result;
         }
 
+        public long elapsedMillis() {
+            return elapsedMillis;
+        }
+
         @Override
         public BuildOperationDescriptor.Builder description() {
             return BuildOperationDescriptor.displayName(displayName);
@@ -17,6 +17,7 @@
 package org.gradle.internal.fingerprint.classpath.impl;
 
 import org.gradle.api.internal.cache.StringInterner;
+import org.gradle.api.internal.changedetection.state.NestedZipFingerprintCache;
 import org.gradle.api.internal.changedetection.state.ResourceEntryFilter;
 import org.gradle.api.internal.changedetection.state.ResourceFilter;
 import org.gradle.api.internal.changedetection.state.ResourceSnapshotterCacheService;
@@ -33,6 +34,7 @@
 public class DefaultClasspathFingerprinter extends AbstractFileCollectionFingerprinter implements ClasspathFingerprinter {
     public DefaultClasspathFingerprinter(
         ResourceSnapshotterCacheService cacheService,
+        NestedZipFingerprintCache nestedZipFingerprintCache,
         FileCollectionSnapshotter fileCollectionSnapshotter,
         ResourceFilter classpathResourceFilter,
         ResourceEntryFilter manifestAttributeResourceEntryFilter,
@@ -47,6 +49,7 @@ public DefaultClasspathFingerprinter(
                 propertiesFileFilters,
                 new RuntimeClasspathResourceHasher(),
                 cacheService,
+                nestedZipFingerprintCache,
                 stringInterner,
                 lineEndingSensitivity
             ),
@@ -19,6 +19,8 @@
 import org.gradle.api.internal.cache.StringInterner;
 import org.gradle.api.internal.changedetection.state.AbiExtractingClasspathResourceHasher;
 import org.gradle.api.internal.changedetection.state.CachingResourceHasher;
+import org.gradle.api.internal.changedetection.state.ClassEntryAbiHashCache;
+import org.gradle.api.internal.changedetection.state.NestedZipFingerprintCache;
 import org.gradle.api.internal.changedetection.state.ResourceSnapshotterCacheService;
 import org.gradle.internal.execution.FileCollectionSnapshotter;
 import org.gradle.internal.execution.model.InputNormalizer;
@@ -27,10 +29,17 @@
 import org.gradle.internal.fingerprint.impl.AbstractFileCollectionFingerprinter;
 
 public class DefaultCompileClasspathFingerprinter extends AbstractFileCollectionFingerprinter implements CompileClasspathFingerprinter {
-    public DefaultCompileClasspathFingerprinter(ResourceSnapshotterCacheService cacheService, FileCollectionSnapshotter fileCollectionSnapshotter, StringInterner stringInterner) {
+    public DefaultCompileClasspathFingerprinter(
+        ResourceSnapshotterCacheService cacheService,
+        ClassEntryAbiHashCache classEntryAbiHashCache,
+        NestedZipFingerprintCache nestedZipFingerprintCache,
+        FileCollectionSnapshotter fileCollectionSnapshotter,
+        StringInterner stringInterner
+    ) {
         super(ClasspathFingerprintingStrategy.compileClasspath(
-            new CachingResourceHasher(AbiExtractingClasspathResourceHasher.DEFAULT, cacheService),
+            new CachingResourceHasher(AbiExtractingClasspathResourceHasher.DEFAULT.cachingClassEntriesIn(classEntryAbiHashCache), cacheService),
             cacheService,
+            nestedZipFingerprintCache,
             stringInterner
         ), fileCollectionSnapshotter);
     }
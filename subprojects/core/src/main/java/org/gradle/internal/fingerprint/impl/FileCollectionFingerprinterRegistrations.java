@@ -19,7 +19,9 @@
 import com.google.common.collect.Lists;
 import org.gradle.api.internal.cache.StringInterner;
 import org.gradle.api.internal.changedetection.state.CachingFileSystemLocationSnapshotHasher;
+import org.gradle.api.internal.changedetection.state.ClassEntryAbiHashCache;
 import org.gradle.api.internal.changedetection.state.LineEndingNormalizingFileSystemLocationSnapshotHasher;
+import org.gradle.api.internal.changedetection.state.NestedZipFingerprintCache;
 import org.gradle.api.internal.changedetection.state.ResourceEntryFilter;
 import org.gradle.api.internal.changedetection.state.ResourceFilter;
 import org.gradle.api.internal.changedetection.state.ResourceSnapshotterCacheService;
@@ -50,12 +52,14 @@ public FileCollectionFingerprinterRegistrations(
         StringInterner stringInterner,
         FileCollectionSnapshotter fileCollectionSnapshotter,
         ResourceSnapshotterCacheService resourceSnapshotterCacheService,
+        ClassEntryAbiHashCache classEntryAbiHashCache,
+        NestedZipFingerprintCache nestedZipFingerprintCache,
         ResourceFilter resourceFilter,
         ResourceEntryFilter metaInfFilter,
         Map<String, ResourceEntryFilter> propertiesFileFilters
         ) {
 
-        List<? extends FileCollectionFingerprinter> insensitiveFingerprinters = insensitiveFingerprinters(resourceSnapshotterCacheService, fileCollectionSnapshotter, stringInterner);
+        List<? extends FileCollectionFingerprinter> insensitiveFingerprinters = insensitiveFingerprinters(resourceSnapshotterCacheService, classEntryAbiHashCache, nestedZipFingerprintCache, fileCollectionSnapshotter, stringInterner);
         this.registrants =
             withAllLineEndingSensitivities(lineEndingSensitivity -> {
                 FileSystemLocationSnapshotHasher normalizedContentHasher = normalizedContentHasher(lineEndingSensitivity, resourceSnapshotterCacheService);
@@ -65,6 +69,7 @@ public FileCollectionFingerprinterRegistrations(
                     normalizedContentHasher,
                     fileCollectionSnapshotter,
                     resourceSnapshotterCacheService,
+                    nestedZipFingerprintCache,
                     resourceFilter,
                     metaInfFilter,
                     propertiesFileFilters,
@@ -114,6 +119,7 @@ private static List<? extends FileCollectionFingerprinter> directoryInsensitiveF
         FileSystemLocationSnapshotHasher normalizedContentHasher,
         FileCollectionSnapshotter fileCollectionSnapshotter,
         ResourceSnapshotterCacheService resourceSnapshotterCacheService,
+        NestedZipFingerprintCache nestedZipFingerprintCache,
         ResourceFilter resourceFilter,
         ResourceEntryFilter metaInfFilter,
         Map<String, ResourceEntryFilter> propertiesFileFilters,
@@ -123,6 +129,7 @@ private static List<? extends FileCollectionFingerprinter> directoryInsensitiveF
             new IgnoredPathFileCollectionFingerprinter(fileCollectionSnapshotter, normalizedContentHasher),
             new DefaultClasspathFingerprinter(
                 resourceSnapshotterCacheService,
+                nestedZipFingerprintCache,
                 fileCollectionSnapshotter,
                 resourceFilter,
                 metaInfFilter,
@@ -136,9 +143,15 @@ private static List<? extends FileCollectionFingerprinter> directoryInsensitiveF
     /**
      * These fingerprinters do not care about line ending or directory sensitivity at all
      */
-    private static List<? extends FileCollectionFingerprinter> insensitiveFingerprinters(ResourceSnapshotterCacheService resourceSnapshotterCacheService, FileCollectionSnapshotter fileCollectionSnapshotter, StringInterner stringInterner) {
+    private static List<? extends FileCollectionFingerprinter> insensitiveFingerprinters(
+        ResourceSnapshotterCacheService resourceSnapshotterCacheService,
+        ClassEntryAbiHashCache classEntryAbiHashCache,
+        NestedZipFingerprintCache nestedZipFingerprintCache,
+        FileCollectionSnapshotter fileCollectionSnapshotter,
+        StringInterner stringInterner
+    ) {
         return Lists.newArrayList(
-            new DefaultCompileClasspathFingerprinter(resourceSnapshotterCacheService, fileCollectionSnapshotter, stringInterner)
+            new DefaultCompileClasspathFingerprinter(resourceSnapshotterCacheService, classEntryAbiHashCache, nestedZipFingerprintCache, fileCollectionSnapshotter, stringInterner)
         );
     }
 
@@ -24,10 +24,14 @@
 import org.gradle.api.internal.cache.StringInterner;
 import org.gradle.api.internal.changedetection.state.BuildSessionScopeFileTimeStampInspector;
 import org.gradle.api.internal.changedetection.state.CachingFileHasher;
+import org.gradle.api.internal.changedetection.state.ClassEntryAbiHashCache;
 import org.gradle.api.internal.changedetection.state.CrossBuildFileHashCache;
+import org.gradle.api.internal.changedetection.state.CrossBuildNestedZipFingerprintCache;
+import org.gradle.api.internal.changedetection.state.DefaultClassEntryAbiHashCache;
 import org.gradle.api.internal.changedetection.state.DefaultResourceSnapshotterCacheService;
 import org.gradle.api.internal.changedetection.state.FileHasherStatistics;
 import org.gradle.api.internal.changedetection.state.GradleUserHomeScopeFileTimeStampInspector;
+import org.gradle.api.internal.changedetection.state.NestedZipFingerprintCache;
 import org.gradle.api.internal.changedetection.state.PropertiesFileFilter;
 import org.gradle.api.internal.changedetection.state.ResourceEntryFilter;
 import org.gradle.api.internal.changedetection.state.ResourceFilter;
@@ -39,6 +43,7 @@
 import org.gradle.cache.GlobalCacheLocations;
 import org.gradle.cache.IndexedCache;
 import org.gradle.cache.IndexedCacheParameters;
+import org.gradle.cache.internal.CrossBuildInMemoryCacheFactory;
 import org.gradle.cache.internal.InMemoryCacheDecoratorFactory;
 import org.gradle.cache.scopes.BuildTreeScopedCacheBuilderFactory;
 import org.gradle.cache.scopes.GlobalScopedCacheBuilderFactory;
@@ -155,6 +160,11 @@ FileHasherStatistics.Collector createCachingFileHasherStatisticsCollector() {
         DirectorySnapshotterStatistics.Collector createDirectorySnapshotterStatisticsCollector() {
             return new DirectorySnapshotterStatistics.Collector();
         }
+
+        @Provides
+        NestedZipFingerprintCache createNestedZipFingerprintCache(CrossBuildInMemoryCacheFactory cacheFactory) {
+            return new CrossBuildNestedZipFingerprintCache(cacheFactory);
+        }
     }
 
     @VisibleForTesting
@@ -298,8 +308,20 @@ ResourceSnapshotterCacheService createResourceSnapshotterCacheService(CrossBuild
         }
 
         @Provides
-        ClasspathFingerprinter createClasspathFingerprinter(ResourceSnapshotterCacheService resourceSnapshotterCacheService, FileCollectionSnapshotter fileCollectionSnapshotter, StringInterner stringInterner) {
-            return new DefaultClasspathFingerprinter(resourceSnapshotterCacheService, fileCollectionSnapshotter, ResourceFilter.FILTER_NOTHING, ResourceEntryFilter.FILTER_NOTHING, PropertiesFileFilter.FILTER_NOTHING, stringInterner, LineEndingSensitivity.DEFAULT);
+        ClassEntryAbiHashCache createClassEntryAbiHashCache(GlobalCacheLocations globalCacheLocations, ListenerManager listenerManager) {
+            DefaultClassEntryAbiHashCache classEntryAbiHashCache = new DefaultClassEntryAbiHashCache(globalCacheLocations);
+            listenerManager.addListener(classEntryAbiHashCache);
+            return classEntryAbiHashCache;
+        }
+
+        @Provides
+        ClasspathFingerprinter createClasspathFingerprinter(
+            ResourceSnapshotterCacheService resourceSnapshotterCacheService,
+            NestedZipFingerprintCache nestedZipFingerprintCache,
+            FileCollectionSnapshotter fileCollectionSnapshotter,
+            StringInterner stringInterner
+        ) {
+            return new DefaultClasspathFingerprinter(resourceSnapshotterCacheService, nestedZipFingerprintCache, fileCollectionSnapshotter, ResourceFilter.FILTER_NOTHING, ResourceEntryFilter.FILTER_NOTHING, PropertiesFileFilter.FILTER_NOTHING, stringInterner, LineEndingSensitivity.DEFAULT);
         }
 
         @Provides
@@ -382,12 +404,16 @@ OutputSnapshotter createOutputSnapshotter(FileCollectionSnapshotter fileCollecti
         FileCollectionFingerprinterRegistrations createFileCollectionFingerprinterRegistrations(
             StringInterner stringInterner,
             FileCollectionSnapshotter fileCollectionSnapshotter,
-            ResourceSnapshotterCacheService resourceSnapshotterCacheService
+            ResourceSnapshotterCacheService resourceSnapshotterCacheService,
+            ClassEntryAbiHashCache classEntryAbiHashCache,
+            NestedZipFingerprintCache nestedZipFingerprintCache
         ) {
             return new FileCollectionFingerprinterRegistrations(
                 stringInterner,
                 fileCollectionSnapshotter,
                 resourceSnapshotterCacheService,
+                classEntryAbiHashCache,
+                nestedZipFingerprintCache,
                 ResourceFilter.FILTER_NOTHING,
                 ResourceEntryFilter.FILTER_NOTHING,
                 PropertiesFileFilter.FILTER_NOTHING
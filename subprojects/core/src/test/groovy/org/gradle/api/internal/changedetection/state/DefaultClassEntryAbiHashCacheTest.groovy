@@ -0,0 +1,138 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.api.internal.changedetection.state
+
+import org.gradle.api.logging.LogLevel
+import org.gradle.cache.GlobalCacheLocations
+import org.gradle.internal.file.FileMetadata
+import org.gradle.internal.file.impl.DefaultFileMetadata
+import org.gradle.internal.hash.TestHashCodes
+import org.gradle.internal.logging.ConfigureLogging
+import org.gradle.internal.logging.TestOutputEventListener
+import org.gradle.internal.snapshot.RegularFileSnapshot
+import org.gradle.test.fixtures.file.TestFile
+import org.gradle.test.fixtures.file.TestNameTestDirectoryProvider
+import org.junit.Rule
+import spock.lang.Specification
+
+import java.util.jar.JarEntry
+import java.util.jar.JarOutputStream
+
+class DefaultClassEntryAbiHashCacheTest extends Specification {
+    @Rule
+    TestNameTestDirectoryProvider tmpDir = new TestNameTestDirectoryProvider(getClass())
+    def outputEventListener = new TestOutputEventListener()
+    @Rule
+    ConfigureLogging logging = new ConfigureLogging(outputEventListener, LogLevel.DEBUG)
+
+    def globalCacheLocations = Stub(GlobalCacheLocations) {
+        isInsideGlobalCache(_) >> { String path -> path.contains("global-cache") }
+    }
+    def cache = new DefaultClassEntryAbiHashCache(globalCacheLocations)
+
+    def "only parses the changed classes of a rebuilt jar"() {
+        def zipHasher = zipHasher(cache)
+        def jar = tmpDir.file("project/build/libs/lib.jar")
+
+        when:
+        createJar(jar, String, Integer, Long)
+        def originalHash = zipHasher.hash(snapshotContext(jar))
+
+        then:
+        cache.stats.hitCount() == 0
+        cache.stats.missCount() == 3
+
+        when:
+        createJar(jar, String, Integer, Short)
+        def changedHash = zipHasher.hash(snapshotContext(jar))
+
+        then:
+        cache.stats.hitCount() == 2
+        cache.stats.missCount() == 4
+        changedHash != originalHash
+        changedHash == zipHasher(null).hash(snapshotContext(jar))
+    }
+
+    def "does not cache classes of jars in global caches"() {
+        def zipHasher = zipHasher(cache)
+        def jar = tmpDir.file("global-cache/lib.jar")
+        createJar(jar, String, Integer)
+
+        when:
+        def hash = zipHasher.hash(snapshotContext(jar))
+
+        then:
+        cache.stats.requestCount() == 0
+        hash == zipHasher(null).hash(snapshotContext(jar))
+    }
+
+    def "keeps a bounded number of classes"() {
+        def boundedCache = new DefaultClassEntryAbiHashCache(globalCacheLocations, 2)
+        def jar = tmpDir.file("project/build/libs/lib.jar")
+        createJar(jar, String, Integer, Long, Short)
+
+        when:
+        zipHasher(boundedCache).hash(snapshotContext(jar))
+
+        then:
+        boundedCache.stats.missCount() == 4
+        boundedCache.stats.evictionCount() == 2
+    }
+
+    def "logs the hits and misses of each build session"() {
+        def zipHasher = zipHasher(cache)
+        def jar = tmpDir.file("project/build/libs/lib.jar")
+
+        when:
+        createJar(jar, String, Integer, Long)
+        zipHasher.hash(snapshotContext(jar))
+        cache.beforeComplete()
+
+        then:
+        outputEventListener.toString().contains("Class entry ABI hash cache: 0 hits, 3 misses, 0 evictions in this build session.")
+
+        when:
+        zipHasher.hash(snapshotContext(jar))
+        cache.beforeComplete()
+
+        then:
+        outputEventListener.toString().contains("Class entry ABI hash cache: 3 hits, 0 misses, 0 evictions in this build session.")
+    }
+
+    private static ZipHasher zipHasher(DefaultClassEntryAbiHashCache cache) {
+        def resourceHasher = cache == null ? AbiExtractingClasspathResourceHasher.DEFAULT : AbiExtractingClasspathResourceHasher.DEFAULT.cachingClassEntriesIn(cache)
+        return new ZipHasher(resourceHasher)
+    }
+
+    private static void createJar(TestFile jar, Class<?>... classes) {
+        jar.parentFile.mkdirs()
+        jar.withOutputStream { outputStream ->
+            def jarOutput = new JarOutputStream(outputStream)
+            classes.each { type ->
+                def classFile = type.name.replace('.', '/') + ".class"
+                jarOutput.putNextEntry(new JarEntry(classFile))
+                jarOutput.write(type.getResourceAsStream("/" + classFile).bytes)
+                jarOutput.closeEntry()
+            }
+            jarOutput.close()
+        }
+    }
+
+    private static DefaultRegularFileSnapshotContext snapshotContext(TestFile file) {
+        return new DefaultRegularFileSnapshotContext({ [] as String[] }, new RegularFileSnapshot(file.path, file.name, TestHashCodes.hashCodeFrom(0), DefaultFileMetadata.file(0, 0, FileMetadata.AccessType.DIRECT)))
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.gradle.api.internal.collections
 
+import org.codehaus.groovy.runtime.GStringImpl
 import org.gradle.api.Action
 import org.gradle.api.internal.CollectionCallbackActionDecorator
 import spock.lang.Specification
@@ -96,4 +97,49 @@ class DefaultCollectionEventRegisterSpec extends Specification {
         r.isSubscribed(StringBuilder)
     }
 
+    def "subscriptions to other types are visible to types queried before"() {
+        given:
+        r.registerEagerAddAction(String, Stub(Action))
+
+        expect:
+        !r.isSubscribed(StringBuilder)
+        !r.isSubscribed(StringBuffer)
+
+        r.registerEagerAddAction(StringBuilder, Stub(Action))
+
+        r.isSubscribed(String)
+        r.isSubscribed(StringBuilder)
+        !r.isSubscribed(StringBuffer)
+    }
+
+    def "subscribing to a supertype of a type queried before invalidates the cached answer"() {
+        given:
+        r.registerEagerAddAction(String, Stub(Action))
+
+        expect:
+        !r.isSubscribed(GStringImpl)
+
+        when:
+        r.registerEagerAddAction(GString, Stub(Action))
+
+        then:
+        r.isSubscribed(GStringImpl)
+        !r.isSubscribed(StringBuilder)
+    }
+
+    def "subscribing to the base type after types were queried subscribes to all types"() {
+        given:
+        r.registerEagerAddAction(String, Stub(Action))
+
+        expect:
+        !r.isSubscribed(StringBuilder)
+
+        when:
+        r.registerEagerAddAction(CharSequence, Stub(Action))
+
+        then:
+        r.isSubscribed(StringBuilder)
+        r.isSubscribed(GStringImpl)
+    }
+
 }
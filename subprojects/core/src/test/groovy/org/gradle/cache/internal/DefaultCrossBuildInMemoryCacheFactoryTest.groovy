@@ -50,6 +50,207 @@ class DefaultCrossBuildInMemoryCacheFactoryTest extends AbstractCrossBuildInMemo
         0 * function._
     }
 
+    def "returns values already used in this session while another value is being created"() {
+        def a = new Object()
+        def b = new Object()
+
+        given:
+        def cache = factory.newCache()
+        cache.get("a") { a }
+
+        when:
+        async {
+            start {
+                cache.get("b") {
+                    instant.creating
+                    thread.blockUntil.retrieved
+                    b
+                }
+            }
+            start {
+                thread.blockUntil.creating
+                assert cache.get("a") { throw new IllegalStateException() } == a
+                assert cache.getIfPresent("a") == a
+                instant.retrieved
+            }
+        }
+
+        then:
+        cache.getIfPresent("b") == b
+    }
+
+    def "returns values retained from the previous session while another value is being created"() {
+        def a = new Object()
+        def b = new Object()
+
+        given:
+        def cache = factory.newCache()
+        cache.get("a") { a }
+        listenerManager.getBroadcaster(BuildSessionLifecycleListener).beforeComplete()
+
+        when:
+        async {
+            start {
+                cache.get("b") {
+                    instant.creating
+                    thread.blockUntil.retrieved
+                    b
+                }
+            }
+            start {
+                thread.blockUntil.creating
+                assert cache.get("a") { throw new IllegalStateException() } == a
+                instant.retrieved
+            }
+        }
+
+        then:
+        cache.getIfPresent("a") == a
+        cache.getIfPresent("b") == b
+    }
+
+    def "creates values for other keys while a value is being created"() {
+        def a = new Object()
+        def b = new Object()
+
+        given:
+        def cache = factory.newCache()
+
+        when:
+        async {
+            start {
+                cache.get("a") {
+                    instant.creatingA
+                    thread.blockUntil.createdB
+                    a
+                }
+            }
+            start {
+                thread.blockUntil.creatingA
+                assert cache.get("b") { b } == b
+                instant.createdB
+            }
+        }
+
+        then:
+        cache.getIfPresent("a") == a
+        cache.getIfPresent("b") == b
+    }
+
+    def "threads asking for the value being created wait for it"() {
+        def a = new Object()
+
+        given:
+        def cache = factory.newCache()
+
+        when:
+        async {
+            start {
+                cache.get("a") {
+                    instant.creating
+                    thread.block()
+                    instant.created
+                    a
+                }
+            }
+            start {
+                thread.blockUntil.creating
+                assert cache.get("a") { throw new IllegalStateException() } == a
+                instant.retrieved
+            }
+        }
+
+        then:
+        instant.retrieved > instant.created
+    }
+
+    def "factory can get values from the cache"() {
+        def a = new Object()
+        def b = new Object()
+
+        given:
+        def cache = factory.newCache()
+
+        expect:
+        cache.get("a") {
+            assert cache.get("b") { b } == b
+            a
+        } == a
+        cache.getIfPresent("b") == b
+    }
+
+    def "factory can get the value it is creating"() {
+        given:
+        def cache = factory.newCache()
+
+        expect:
+        cache.get("a") {
+            assert cache.get("a") { "inner" } == "inner"
+            "outer"
+        } == "inner"
+        cache.getIfPresent("a") == "inner"
+    }
+
+    def "lookups made by a factory wait for values being created by other threads"() {
+        def x = new Object()
+
+        given:
+        def cache1 = factory.newCache()
+        def cache2 = factory.newCache()
+
+        when:
+        async {
+            start {
+                cache1.get("a") {
+                    cache2.get("x") {
+                        instant.creating
+                        thread.block()
+                        instant.created
+                        x
+                    }
+                }
+            }
+            start {
+                thread.blockUntil.creating
+                cache1.get("b") {
+                    assert cache2.get("x") { throw new IllegalStateException() } == x
+                    instant.retrieved
+                    "b"
+                }
+            }
+        }
+
+        then:
+        instant.retrieved > instant.created
+        cache2.getIfPresent("x") == x
+    }
+
+    def "does not return null values as hits"() {
+        def function = Mock(Function)
+
+        given:
+        def cache = factory.newCache()
+
+        when:
+        def r1 = cache.get("a", function)
+        def r2 = cache.get("a", function)
+
+        then:
+        r1 == null
+        r2 == null
+        2 * function.apply("a") >> null
+
+        and:
+        cache.getIfPresent("a") == null
+
+        when:
+        cache.put("a", null)
+        listenerManager.getBroadcaster(BuildSessionLifecycleListener).beforeComplete()
+
+        then:
+        cache.getIfPresent("a") == null
+    }
+
     def "creates a cache whose keys are classes"() {
         def a = new Object()
         def b = new Object()
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.groovy.scripts.internal
+
+import org.gradle.api.internal.initialization.ClassLoaderScope
+import org.gradle.groovy.scripts.ScriptSource
+import org.gradle.internal.Try
+import org.gradle.internal.classpath.CachedClasspathTransformer
+import org.gradle.internal.classpath.ClassPath
+import org.gradle.internal.classpath.transforms.ClassTransform
+import org.gradle.internal.execution.ExecutionEngine
+import org.gradle.internal.hash.ClassLoaderHierarchyHasher
+import org.gradle.internal.hash.TestHashCodes
+import org.gradle.internal.resource.TextResource
+import spock.lang.Specification
+
+class GroovyScriptClassCompilerTest extends Specification {
+    def scriptCompilationHandler = Mock(ScriptCompilationHandler)
+    def classLoaderHierarchyHasher = Stub(ClassLoaderHierarchyHasher) {
+        getClassLoaderHash(_) >> TestHashCodes.hashCodeFrom(1)
+    }
+    def classpathTransformer = Stub(CachedClasspathTransformer) {
+        transform(_ as ClassPath, _ as ClassTransform) >> ClassPath.EMPTY
+    }
+    def executionEngine = Mock(ExecutionEngine)
+    def compiler = new GroovyScriptClassCompiler(scriptCompilationHandler, classLoaderHierarchyHasher, classpathTransformer, executionEngine, null, null, null, null)
+
+    def "identical scripts with the same classpath share the compilation output"() {
+        def output = new GroovyScriptClassCompiler.GroovyScriptCompilationAndInstrumentation.GroovyScriptCompilationOutput(new File("classes"), new File("metadata"))
+        def operation = Stub(CompileOperation) {
+            getId() >> "template"
+        }
+        def request = Stub(ExecutionEngine.Request) {
+            execute() >> Stub(ExecutionEngine.Result) {
+                getOutputAs(_) >> Try.successful(output)
+            }
+        }
+
+        when:
+        compiler.compile(script("build_a"), groovy.lang.Script, new Object(), Stub(ClassLoaderScope), operation, {})
+        compiler.compile(script("build_b"), groovy.lang.Script, new Object(), Stub(ClassLoaderScope), operation, {})
+
+        then:
+        1 * executionEngine.createRequest(_) >> request
+        2 * scriptCompilationHandler.loadFromDir(_, _, _, _, new File("metadata"), operation, groovy.lang.Script)
+    }
+
+    private ScriptSource script(String className) {
+        def resource = Stub(TextResource) {
+            isContentCached() >> true
+            getHasEmptyContent() >> false
+            getContentHash() >> TestHashCodes.hashCodeFrom(2)
+        }
+        return Stub(ScriptSource) {
+            getClassName() >> className
+            getResource() >> resource
+        }
+    }
+}
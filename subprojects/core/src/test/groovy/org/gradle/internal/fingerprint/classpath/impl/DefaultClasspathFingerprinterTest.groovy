@@ -17,11 +17,13 @@
 package org.gradle.internal.fingerprint.classpath.impl
 
 import org.gradle.api.internal.cache.StringInterner
+import org.gradle.api.internal.changedetection.state.CrossBuildNestedZipFingerprintCache
 import org.gradle.api.internal.changedetection.state.DefaultResourceSnapshotterCacheService
 import org.gradle.api.internal.changedetection.state.PropertiesFileFilter
 import org.gradle.api.internal.changedetection.state.ResourceEntryFilter
 import org.gradle.api.internal.changedetection.state.ResourceFilter
 import org.gradle.api.internal.file.TestFiles
+import org.gradle.cache.internal.TestCrossBuildInMemoryCacheFactory
 import org.gradle.internal.fingerprint.FileSystemLocationFingerprint
 import org.gradle.internal.fingerprint.LineEndingSensitivity
 import org.gradle.internal.fingerprint.impl.DefaultFileCollectionSnapshotter
@@ -50,6 +52,7 @@ class DefaultClasspathFingerprinterTest extends Specification {
     def cacheService = new DefaultResourceSnapshotterCacheService(resourceHashesCache)
     def fingerprinter = new DefaultClasspathFingerprinter(
         cacheService,
+        new CrossBuildNestedZipFingerprintCache(TestCrossBuildInMemoryCacheFactory.instance()),
         fileCollectionSnapshotter,
         ResourceFilter.FILTER_NOTHING,
         ResourceEntryFilter.FILTER_NOTHING,
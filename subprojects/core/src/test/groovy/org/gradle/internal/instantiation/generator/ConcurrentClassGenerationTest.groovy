@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.gradle.internal.instantiation.generator
+
+import org.gradle.api.model.ObjectFactory
+import org.gradle.cache.internal.DefaultCrossBuildInMemoryCacheFactory
+import org.gradle.internal.event.DefaultListenerManager
+import org.gradle.internal.instantiation.PropertyRoleAnnotationHandler
+import org.gradle.internal.service.scopes.Scope
+import org.gradle.test.fixtures.concurrent.ConcurrentSpec
+
+import javax.inject.Inject
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CyclicBarrier
+
+class ConcurrentClassGenerationTest extends ConcurrentSpec {
+    def cacheFactory = new DefaultCrossBuildInMemoryCacheFactory(new DefaultListenerManager(Scope.BuildSession))
+
+    def "generates a class once when threads use different constructor selectors for the same type"() {
+        expect:
+        100.times {
+            // Each generator uses its own class name suffix, so each iteration generates a new class
+            def generator = AsmBackedClassGenerator.injectOnly([], Stub(PropertyRoleAnnotationHandler), [], cacheFactory, 0)
+            def jsr330Selector = new Jsr330ConstructorSelector(generator, cacheFactory.newClassCache())
+            def paramsMatchingSelector = new ParamsMatchingConstructorSelector(generator)
+            def ready = new CyclicBarrier(2)
+            def constructors = new CopyOnWriteArrayList()
+
+            async {
+                start {
+                    ready.await()
+                    constructors << jsr330Selector.forType(HasInjectedService)
+                }
+                start {
+                    ready.await()
+                    constructors << paramsMatchingSelector.forParams(HasInjectedService, [] as Object[])
+                }
+            }
+
+            assert constructors.size() == 2
+            assert constructors.every { it != null }
+            assert generator.generate(HasInjectedService).generatedClass.name.startsWith(HasInjectedService.name)
+        }
+    }
+
+    static abstract class HasInjectedService {
+        @Inject
+        abstract ObjectFactory getObjects()
+    }
+}